@@ -0,0 +1,46 @@
+package com.example.authservice.jwt;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+// 벤치마크용 키 쌍을 생성하고 JwtKeyProperties가 읽을 수 있는 PEM 문자열로 변환하는 유틸
+final class BenchmarkKeys {
+
+    private BenchmarkKeys() {
+    }
+
+    // RSA-2048 키 쌍 생성 (운영 환경과 동일한 크기)
+    static KeyPair rsa() throws Exception {
+        return generate(SigningAlgorithm.RS256);
+    }
+
+    // 서명 알고리즘에 맞는 키 쌍 생성
+    static KeyPair generate(SigningAlgorithm algorithm) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyFactoryAlgorithm());
+        switch (algorithm) {
+            case RS256 -> generator.initialize(2048);
+            case ES256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+            case EDDSA -> {
+                // Ed25519는 별도 초기화 불필요
+            }
+        }
+        return generator.generateKeyPair();
+    }
+
+    // 키 쌍을 PEM으로 변환해 JwtKeyProperties에 주입하고 초기화
+    static JwtKeyProperties keyProperties(KeyPair keyPair) {
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setPrivateKeyPem(toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        properties.setPublicKeyPem(toPem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        properties.initKeys();
+        return properties;
+    }
+
+    static String toPem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.authservice.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 발급/검증 경로 벤치마크
+// 로그인, 회원가입, 재발급은 토큰을 두 개씩 발급하고, 재발급은 refreshToken 검증을 한 번 수행한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private KeyPair keyPair;
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider cachingJwtTokenProvider;
+
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        keyPair = BenchmarkKeys.rsa();
+        jwtTokenProvider = new JwtTokenProvider(
+                BenchmarkKeys.keyProperties(keyPair),
+                1000L * 60 * 15,            // accessToken 15분
+                1000L * 60 * 60 * 24 * 7,   // refreshToken 7일
+                VerifiedTokenCache.disabled()
+        );
+
+        // 검증 캐시를 켠 인스턴스 (같은 토큰 반복 검증)
+        cachingJwtTokenProvider = new JwtTokenProvider(
+                BenchmarkKeys.keyProperties(keyPair),
+                1000L * 60 * 15,
+                1000L * 60 * 60 * 24 * 7,
+                new VerifiedTokenCache(true, 10_000, Duration.ofMinutes(5), new SimpleMeterRegistry())
+        );
+
+        accessToken = jwtTokenProvider.createAccessToken("benchUser");
+        refreshToken = jwtTokenProvider.createRefreshToken("benchUser", "benchSession");
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken("benchUser");
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtTokenProvider.createRefreshToken("benchUser", "benchSession");
+    }
+
+    @Benchmark
+    public TokenValidationResult validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getUserId() {
+        return jwtTokenProvider.getUserId(accessToken);
+    }
+
+    // /auth/token 에서 사용하는 한 번의 검증 + 클레임 추출
+    @Benchmark
+    public ParsedToken parseRefreshToken() {
+        return jwtTokenProvider.parseToken(refreshToken);
+    }
+
+    // 검증 캐시 적중 시 (SHA-256 + 해시 조회)
+    @Benchmark
+    public ParsedToken parseRefreshTokenCached() {
+        return cachingJwtTokenProvider.parseToken(refreshToken);
+    }
+
+    // PEM 디코딩 및 KeyFactory를 통한 키 객체 생성 비용 (기동 시, 키 교체 시)
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JwtKeyProperties initKeys() {
+        return BenchmarkKeys.keyProperties(keyPair);
+    }
+}
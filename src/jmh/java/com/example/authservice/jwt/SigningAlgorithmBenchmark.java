@@ -0,0 +1,39 @@
+package com.example.authservice.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 서명 알고리즘별(RS256, ES256, EdDSA) 토큰 발급/검증 처리량 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"RS256", "ES256", "EDDSA"})
+    private SigningAlgorithm algorithm;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtTokenProvider = new JwtTokenProvider(
+                BenchmarkKeys.keyProperties(BenchmarkKeys.generate(algorithm)),
+                1000L * 60 * 15,
+                1000L * 60 * 60 * 24 * 7,
+                VerifiedTokenCache.disabled()
+        );
+        accessToken = jwtTokenProvider.createAccessToken("benchUser");
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtTokenProvider.createAccessToken("benchUser");
+    }
+
+    @Benchmark
+    public ParsedToken verify() {
+        return jwtTokenProvider.parseToken(accessToken);
+    }
+}
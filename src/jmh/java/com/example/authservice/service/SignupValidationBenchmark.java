@@ -0,0 +1,92 @@
+package com.example.authservice.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// AuthService.createUser()의 입력값 검증 비용 측정
+// String.matches()는 호출할 때마다 정규식을 컴파일하므로, 미리 컴파일한 Pattern 및 SignupValidator와 비교한다.
+// SignupValidator는 금지어 목록 크기(blockedWordCount)가 달라도 비용이 거의 같아야 한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SignupValidationBenchmark {
+
+    // 기존 AuthService와 동일한 정규식
+    private static final String USER_ID_REGEX = "^[a-zA-Z0-9]{1,16}$";
+    private static final String PASSWORD_REGEX = ".*[!@#$%^&*()\\-_=+{};:,<.>].*";
+
+    private static final Pattern USER_ID_PATTERN = Pattern.compile(USER_ID_REGEX);
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile(PASSWORD_REGEX);
+
+    @Param({"Hong123"})
+    private String userId;
+
+    @Param({"password@123"})
+    private String password;
+
+    @Param({"0", "1000", "50000"})
+    private int blockedWordCount;
+
+    private SignupValidator signupValidator;
+
+    @Setup
+    public void setUp() {
+        // 4~10자 임의 금지어 (검사 대상 userId와는 겹치지 않는 경우가 대부분)
+        SplittableRandom random = new SplittableRandom(42);
+        List<String> blockedWords = new ArrayList<>(blockedWordCount);
+        for (int i = 0; i < blockedWordCount; i++) {
+            char[] word = new char[4 + random.nextInt(7)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = (char) ('a' + random.nextInt(26));
+            }
+            blockedWords.add(new String(word));
+        }
+        signupValidator = new SignupValidator(List.of("admin", "root", "system"), blockedWords);
+    }
+
+    // 기존 AuthService.createUser() 흐름 (매 호출마다 정규식 컴파일 + 예약어 리스트 생성)
+    @Benchmark
+    public boolean createUserValidation() {
+        if (!userId.matches(USER_ID_REGEX)) {
+            return false;
+        }
+        List<String> reservedIds = List.of("admin", "root", "system");
+        if (reservedIds.contains(userId.toLowerCase())) {
+            return false;
+        }
+        return password.length() >= 8 && password.matches(PASSWORD_REGEX);
+    }
+
+    // 현재 AuthService.createUser() 흐름
+    @Benchmark
+    public boolean signupValidator() {
+        return signupValidator.isValidUserIdFormat(userId)
+                && !signupValidator.isReservedUserId(userId)
+                && signupValidator.isStrongPassword(password);
+    }
+
+    @Benchmark
+    public boolean userIdMatches() {
+        return userId.matches(USER_ID_REGEX);
+    }
+
+    @Benchmark
+    public boolean userIdPrecompiled() {
+        return USER_ID_PATTERN.matcher(userId).matches();
+    }
+
+    @Benchmark
+    public boolean passwordMatches() {
+        return password.matches(PASSWORD_REGEX);
+    }
+
+    @Benchmark
+    public boolean passwordPrecompiled() {
+        return PASSWORD_PATTERN.matcher(password).matches();
+    }
+}
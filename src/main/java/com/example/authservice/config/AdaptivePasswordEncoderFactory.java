@@ -0,0 +1,107 @@
+package com.example.authservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.function.IntFunction;
+
+// 실행 중인 하드웨어에 맞춰 작업량(work factor)을 보정한 PasswordEncoder 생성
+// 기동 시 한 번 해시 시간을 측정해서 목표 시간을 넘지 않는 가장 큰 작업량을 고른다.
+//  - bcrypt : strength(cost)를 1씩 올릴 때마다 시간이 2배
+//  - argon2 : Argon2id, 메모리/병렬도는 설정값 고정, 반복 횟수(iterations)를 보정
+// 저장되는 해시는 "{bcrypt}$2a$...", "{argon2}$argon2id$..." 형태로 알고리즘 ID가 붙는다.
+// ID가 없는 기존 해시는 BCrypt로 검증하고, 로그인 성공 시 현재 정책으로 다시 해싱된다. (upgradeEncoding)
+@Slf4j
+public final class AdaptivePasswordEncoderFactory {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+
+    // 보정 시 측정에 사용하는 비밀번호
+    private static final String CALIBRATION_PASSWORD = "calibration@Password1";
+
+    private AdaptivePasswordEncoderFactory() {
+    }
+
+    // algorithm      : 새 해시에 사용할 알고리즘 (bcrypt, argon2)
+    // targetMillis   : 해시 1회 목표 시간(ms), 0 이하이면 보정하지 않고 최소 작업량 사용
+    public static PasswordEncoder create(String algorithm,
+                                         long targetMillis,
+                                         int bcryptMinStrength,
+                                         int bcryptMaxStrength,
+                                         int argon2MemoryKib,
+                                         int argon2Parallelism,
+                                         int argon2MinIterations,
+                                         int argon2MaxIterations) {
+
+        String idForEncode = algorithm.toLowerCase();
+        if (!idForEncode.equals(BCRYPT) && !idForEncode.equals(ARGON2)) {
+            throw new IllegalStateException("Unsupported password hashing algorithm: " + algorithm);
+        }
+
+        // 새 해시에 사용하는 알고리즘만 보정, 다른 알고리즘은 기존 해시 검증용이므로 최소 작업량
+        int strength = idForEncode.equals(BCRYPT)
+                ? calibrate(BCRYPT, bcryptMinStrength, bcryptMaxStrength, targetMillis, BCryptPasswordEncoder::new)
+                : bcryptMinStrength;
+        int iterations = idForEncode.equals(ARGON2)
+                ? calibrate(ARGON2, argon2MinIterations, argon2MaxIterations, targetMillis,
+                        i -> argon2(argon2MemoryKib, argon2Parallelism, i))
+                : argon2MinIterations;
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        Argon2PasswordEncoder argon2 = argon2(argon2MemoryKib, argon2Parallelism, iterations);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, argon2
+        ));
+        // 알고리즘 ID가 없는 기존 BCrypt 해시 검증
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        log.info("Password hashing policy: algorithm={}, bcryptStrength={}, argon2(memoryKib={}, parallelism={}, iterations={})",
+                idForEncode, strength, argon2MemoryKib, argon2Parallelism, iterations);
+        return encoder;
+    }
+
+    // Argon2id (salt 16바이트, 해시 32바이트)
+    private static Argon2PasswordEncoder argon2(int memoryKib, int parallelism, int iterations) {
+        return new Argon2PasswordEncoder(16, 32, parallelism, memoryKib, iterations);
+    }
+
+    // min부터 작업량을 올려가며 목표 시간을 넘지 않는 가장 큰 값을 찾는다
+    private static int calibrate(String name, int min, int max, long targetMillis, IntFunction<PasswordEncoder> encoderFactory) {
+
+        if (targetMillis <= 0) {
+            return min;
+        }
+
+        int selected = min;
+        for (int workFactor = min; workFactor <= max; workFactor++) {
+            long elapsed = measureMillis(encoderFactory.apply(workFactor));
+            log.debug("Password hashing calibration: {} workFactor={} took {}ms", name, workFactor, elapsed);
+            if (elapsed > targetMillis) {
+                break;
+            }
+            selected = workFactor;
+        }
+        return selected;
+    }
+
+    // 워밍업 1회 후 가장 빠른 측정값 사용 (JIT, 다른 기동 작업의 영향 최소화)
+    private static long measureMillis(PasswordEncoder encoder) {
+
+        encoder.encode(CALIBRATION_PASSWORD);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+}
@@ -1,12 +1,24 @@
 package com.example.authservice.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+@Slf4j
 @Configuration
 public class RabbitConfig {
 
@@ -19,6 +31,100 @@ public class RabbitConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(jsonMessageConverter());
+
+        // 라우팅되지 않은 메시지(바인딩된 큐 없음)를 버리지 않고 반환받아 기록 (spring.rabbitmq.publisher-returns)
+        template.setMandatory(true);
+        template.setReturnsCallback(returned -> log.warn("Message returned by broker: exchange={}, routingKey={}, replyText={}",
+                returned.getExchange(), returned.getRoutingKey(), returned.getReplyText()));
         return template;
     }
+
+    // 회원 탈퇴 이벤트 큐 선언 및 user 익스체인지 바인딩
+    // 재시도 후에도 처리하지 못한 메시지는 거부(requeue 없음)되어 데드 레터 익스체인지를 거쳐 DLQ로 이동한다.
+    // 이미 인자 없이 선언된 큐가 있으면 인자가 달라 선언이 실패하므로, 배포 전에 기존 큐를 비우고 삭제해야 한다.
+    @Bean
+    public Queue userDeletedQueue(RabbitProperties properties) {
+        String queue = properties.getQueues().getUser().getDeleted();
+        return QueueBuilder.durable(queue)
+                .deadLetterExchange(deadLetterExchange(properties))
+                .deadLetterRoutingKey(queue)
+                .build();
+    }
+
+    // 데드 레터 익스체인지 (user 익스체인지 이름 + ".dlx"), DLQ는 원래 큐 이름을 라우팅 키로 바인딩
+    @Bean
+    public DirectExchange userDeadLetterExchange(RabbitProperties properties) {
+        return new DirectExchange(deadLetterExchange(properties), true, false);
+    }
+
+    // 처리하지 못한 회원 탈퇴 이벤트 (원인 확인 후 수동으로 다시 발행)
+    @Bean
+    public Queue userDeletedDeadLetterQueue(RabbitProperties properties) {
+        return new Queue(deadLetterQueue(properties.getQueues().getUser().getDeleted()), true);
+    }
+
+    @Bean
+    public Binding userDeletedDeadLetterBinding(RabbitProperties properties) {
+        String queue = properties.getQueues().getUser().getDeleted();
+        return new Binding(
+                deadLetterQueue(queue),
+                Binding.DestinationType.QUEUE,
+                deadLetterExchange(properties),
+                queue,
+                null);
+    }
+
+    public static String deadLetterExchange(RabbitProperties properties) {
+        return properties.getExchanges().getUser() + ".dlx";
+    }
+
+    public static String deadLetterQueue(String queue) {
+        return queue + ".dlq";
+    }
+
+    @Bean
+    public Binding userDeletedBinding(RabbitProperties properties) {
+        return new Binding(
+                properties.getQueues().getUser().getDeleted(),
+                Binding.DestinationType.QUEUE,
+                properties.getExchanges().getUser(),
+                properties.getRoutingKeys().getUser().getDeleted(),
+                null);
+    }
+
+    // 배치 리스너용 컨테이너 팩토리 (List<Message> 파라미터로 여러 메시지를 한 번에 전달)
+    // batch-size 만큼 모이거나 receive-timeout 동안 새 메시지가 없으면 리스너를 호출하고, 반환되면 배치 전체를 ack 한다.
+    // 리스너가 예외를 던지면 같은 배치로 max-attempts 번까지 재시도(지수 백오프)하고,
+    // 그래도 실패하면 배치를 requeue 없이 거부해 DLQ로 보낸다. (무한 재전달 방지)
+    // 변환은 리스너가 메시지마다 직접 하므로, 잘못된 메시지 하나가 배치 전체를 실패시키지 않는다.
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${rabbitmq.listener.batch-size:200}") int batchSize,
+            // 브로커가 ack 없이 미리 보내는 메시지 수, 배치 크기 이상이어야 배치가 채워진다.
+            @Value("${rabbitmq.listener.prefetch:400}") int prefetch,
+            @Value("${rabbitmq.listener.receive-timeout-ms:200}") long receiveTimeout,
+            // 첫 시도를 포함한 최대 처리 횟수
+            @Value("${rabbitmq.listener.max-attempts:3}") int maxAttempts,
+            @Value("${rabbitmq.listener.retry-initial-interval-ms:1000}") long retryInitialInterval,
+            @Value("${rabbitmq.listener.retry-max-interval-ms:10000}") long retryMaxInterval) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setReceiveTimeout(receiveTimeout);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(maxAttempts)
+                .backOffOptions(retryInitialInterval, 2.0, retryMaxInterval)
+                .recoverer(new RejectAndDontRequeueRecoverer())
+                .build());
+        return factory;
+    }
 }
@@ -2,8 +2,12 @@ package com.example.authservice.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -30,4 +34,37 @@ public class RedisConfig {
 
         return template;
     }
+
+    @Bean
+    // 값을 바이트 배열 그대로 저장하는 Redis 템플릿 (refreshToken 다이제스트 등 바이너리 값 저장용)
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+
+        // 키는 문자열, 값은 직렬화 없이 byte[] 그대로 저장 (해시 필드/값도 동일)
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+
+        return template;
+    }
+
+    @Bean
+    // Redis pub/sub 구독 컨테이너 (레플리카 간 사용자 변경 알림, UserChangeBroadcaster)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    @Bean
+    // refreshToken 세션 저장/교체용 Lua 스크립트
+    // DefaultRedisScript는 SHA1을 한 번만 계산해두고 EVALSHA로 호출하며,
+    // Redis에 스크립트가 없으면(NOSCRIPT) EVAL로 자동 재시도한다.
+    public RedisScript<Long> saveRefreshSessionScript() {
+        return RedisScript.of(new ClassPathResource("scripts/save-refresh-session.lua"), Long.class);
+    }
 }
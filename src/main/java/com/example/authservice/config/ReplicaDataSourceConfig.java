@@ -0,0 +1,77 @@
+package com.example.authservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 읽기 레플리카 라우팅 데이터소스 (datasource.replica.enabled=true 일 때만)
+// 로그인/재발급의 조회는 레플리카로 분산하고, 회원가입/탈퇴 등 쓰기는 primary에서 처리한다.
+// 이 빈이 등록되면 스프링 부트의 기본 DataSource 자동 구성은 사용되지 않는다.
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    // primary: 기존 spring.datasource.* 설정 + 커넥션 풀 설정(spring.datasource.hikari.*)
+    // 기본 자동 구성을 대신하므로 풀 설정도 자동 구성과 같은 방식으로 바인딩한다.
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        // spring.datasource.hikari.pool-name이 있으면 바인딩 시 덮어쓴다
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 DataSourceProperties dataSourceProperties,
+                                 ReplicaDataSourceProperties replicaProperties,
+                                 ReplicaRouting replicaRouting) {
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primary);
+
+        List<ReplicaDataSourceProperties.Replica> replicas = replicaProperties.getReplicas();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = replicas.get(i);
+
+            HikariDataSource replicaDataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword())
+                    .build();
+            replicaDataSource.setPoolName(ReplicaRoutingDataSource.REPLICA_PREFIX + i);
+            replicaDataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replicaDataSource.setReadOnly(true);
+
+            targets.put(ReplicaRoutingDataSource.REPLICA_PREFIX + i, replicaDataSource);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicas.size(), replicaRouting);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 실행 시점에 커넥션을 얻어, 읽기 전용 여부가 정해진 뒤 라우팅되도록 한다.
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.authservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 읽기 전용 레플리카 설정 (datasource.replica.*)
+// primary는 기존 spring.datasource.* 설정을 그대로 사용한다.
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    // true이면 읽기 전용 트랜잭션을 레플리카로 라우팅
+    private boolean enabled = false;
+
+    // 레플리카별 최대 커넥션 수
+    private int maximumPoolSize = 10;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
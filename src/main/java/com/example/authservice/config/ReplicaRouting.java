@@ -0,0 +1,57 @@
+package com.example.authservice.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// 레플리카 라우팅 상태 (사용 여부, primary 강제 구간)
+// ReplicaRoutingDataSource가 라우팅할 때 참조하고, 서비스에서는 주입받아 복제 지연을 피할 조회에 사용한다.
+// 레플리카 라우팅을 사용하지 않아도 (datasource.replica.enabled=false) 빈은 등록되며, 이때는 isEnabled()가 false이다.
+@Component
+public class ReplicaRouting {
+
+    // 읽기 전용이어도 primary를 사용해야 하는 구간 (onPrimary)
+    private final ThreadLocal<Boolean> forcePrimary = new ThreadLocal<>();
+
+    private final boolean enabled;
+
+    // 레플리카 설정(ReplicaDataSourceConfig가 등록)이 있고 레플리카가 하나 이상이면 사용
+    @Autowired
+    public ReplicaRouting(Optional<ReplicaDataSourceProperties> replicaProperties) {
+        this(replicaProperties.map(properties -> !properties.getReplicas().isEmpty()).orElse(false));
+    }
+
+    public ReplicaRouting(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    // 레플리카 라우팅 사용 여부
+    // false면 모든 조회가 primary에서 실행되므로, 조회 결과가 없을 때 primary에서 다시 조회할 필요가 없다.
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // supplier 안의 조회를 primary에서 실행 (Read-your-writes)
+    // 복제 지연으로 레플리카에 아직 없는 데이터(방금 가입한 사용자 등)를 다시 조회할 때 사용한다.
+    // 레플리카 라우팅을 사용하지 않으면 그냥 실행된다.
+    public <T> T onPrimary(Supplier<T> supplier) {
+        Boolean previous = forcePrimary.get();
+        forcePrimary.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                forcePrimary.remove();
+            } else {
+                forcePrimary.set(previous);
+            }
+        }
+    }
+
+    // 현재 스레드가 onPrimary 구간 안인지 (ReplicaRoutingDataSource)
+    boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(forcePrimary.get());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.authservice.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 레플리카로, 그 외(쓰기, 트랜잭션 없음)는 primary로 라우팅
+// 트랜잭션 속성이 정해진 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용한다. (ReplicaDataSourceConfig)
+// primary 강제 구간은 ReplicaRouting 빈이 관리한다. (onPrimary)
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+
+    private final int replicaCount;
+    private final ReplicaRouting replicaRouting;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(int replicaCount, ReplicaRouting replicaRouting) {
+        this.replicaCount = replicaCount;
+        this.replicaRouting = replicaRouting;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaCount == 0
+                || replicaRouting.isPrimaryForced()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        // 레플리카 간 라운드 로빈
+        return REPLICA_PREFIX + Math.floorMod(next.getAndIncrement(), replicaCount);
+    }
+}
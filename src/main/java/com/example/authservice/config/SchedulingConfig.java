@@ -0,0 +1,10 @@
+package com.example.authservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (아웃박스 릴레이 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
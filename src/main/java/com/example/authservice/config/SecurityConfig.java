@@ -4,12 +4,12 @@ import com.example.authservice.handler.CustomOAuth2FailureHandler;
 import com.example.authservice.handler.CustomOAuth2SuccessHandler;
 import com.example.authservice.service.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -28,9 +28,24 @@ public class SecurityConfig {
     private final CustomOAuth2FailureHandler customOAuth2FailureHandler;
 
     @Bean
-    // 비밀번호 암호화를 위한 BCrypt 인코더 빈 등록
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // 비밀번호 암호화를 위한 인코더 빈 등록
+    // 기동 시 목표 시간에 맞춰 작업량을 보정하고, bcrypt/argon2 해시를 모두 검증할 수 있는 위임 인코더 사용
+    public PasswordEncoder passwordEncoder(
+            // 새 해시에 사용할 알고리즘 (bcrypt, argon2)
+            @Value("${auth.password-hashing.algorithm:bcrypt}") String algorithm,
+            // 해시 1회 목표 시간(ms)
+            @Value("${auth.password-hashing.target-millis:250}") long targetMillis,
+            @Value("${auth.password-hashing.bcrypt.min-strength:10}") int bcryptMinStrength,
+            @Value("${auth.password-hashing.bcrypt.max-strength:14}") int bcryptMaxStrength,
+            // Argon2id 메모리(KiB), 병렬도, 반복 횟수 범위
+            @Value("${auth.password-hashing.argon2.memory-kib:19456}") int argon2MemoryKib,
+            @Value("${auth.password-hashing.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${auth.password-hashing.argon2.min-iterations:2}") int argon2MinIterations,
+            @Value("${auth.password-hashing.argon2.max-iterations:10}") int argon2MaxIterations) {
+
+        return AdaptivePasswordEncoderFactory.create(algorithm, targetMillis,
+                bcryptMinStrength, bcryptMaxStrength,
+                argon2MemoryKib, argon2Parallelism, argon2MinIterations, argon2MaxIterations);
     }
 
     @Bean
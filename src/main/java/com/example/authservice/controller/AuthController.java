@@ -4,6 +4,8 @@ import com.example.authservice.dto.*;
 import com.example.authservice.exception.cookie.NoRefreshTokenCookieException;
 import com.example.authservice.exception.cookie.RefreshTokenNotFoundException;
 import com.example.authservice.service.AuthService;
+import com.example.authservice.service.UserAvailabilityService;
+import com.example.authservice.service.UserIdSuggestionService;
 import com.example.common.dto.ApiResponse;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 // REST API용 컨트롤러임을 명시
@@ -28,11 +31,39 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final UserAvailabilityService userAvailabilityService;
+    private final UserIdSuggestionService userIdSuggestionService;
 
     // application 설정파일에서 토큰 만료시간 로드
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    // 회원가입 전 userId, email 사용 가능 여부 확인 (입력 중 중복 확인)
+    // 둘 중 요청한 값만 확인하고, 실제 중복 여부는 가입 시 DB 유니크 제약으로 다시 검사된다.
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<AvailabilityResponseDto>> checkAvailability(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String email) {
+
+        AvailabilityResponseDto availability = new AvailabilityResponseDto(
+                userId != null ? userAvailabilityService.isUserIdAvailable(userId) : null,
+                email != null ? userAvailabilityService.isEmailAvailable(email) : null);
+
+        return ResponseEntity.ok(new ApiResponse<>("Availability checked successfully", availability));
+    }
+
+    // 사용 중인 userId 대신 쓸 수 있는 userId 추천 (요청한 값에 번호를 붙인 가까운 값부터)
+    @GetMapping("/userId-suggestions")
+    public ResponseEntity<ApiResponse<UserIdSuggestionResponseDto>> suggestUserIds(
+            @RequestParam String userId,
+            @RequestParam(defaultValue = "5") int count) {
+
+        List<String> suggestions = userIdSuggestionService.suggest(userId, count);
+
+        return ResponseEntity.ok(new ApiResponse<>("UserId suggestions retrieved successfully",
+                new UserIdSuggestionResponseDto(suggestions)));
+    }
+
     // 일반 회원가입
     @PostMapping("/signup")
     public ResponseEntity<ApiResponse<SignupResponseDto>> signup(
@@ -99,9 +130,11 @@ public class AuthController {
         // refreshToken 검증 및 사용자 식별 후 토큰 발급
         TokenResponseDto tokenResponse = authService.reissueTokens(refreshToken);
 
-        // 쿠키에 새로 발급된 refreshToken 저장
-        response.addCookie(setRefreshTokenCookie(tokenResponse.getRefreshToken(),
-                (int) (refreshTokenExpiration / 1000)));
+        // refreshToken이 교체된 경우에만 쿠키에 새로 발급된 refreshToken 저장 (교체되지 않았으면 기존 쿠키를 그대로 사용)
+        if (tokenResponse.getRefreshToken() != null) {
+            response.addCookie(setRefreshTokenCookie(tokenResponse.getRefreshToken(),
+                    (int) (refreshTokenExpiration / 1000)));
+        }
 
         return ResponseEntity
                 .ok(new ApiResponse<>("Access token has been reissued successfully", tokenResponse));
@@ -109,11 +142,13 @@ public class AuthController {
 
     // 로그아웃
     @PostMapping("/logout")
+    // refreshToken 쿠키가 있으면 해당 세션(기기)만, 없으면 모든 세션 로그아웃
     public ResponseEntity<Map<String, String>> logout(
             @RequestHeader("X-User-Id") String userId,
+            @CookieValue(value = "refreshToken", required = false) String refreshToken,
             HttpServletResponse response) {
 
-        authService.logout(userId);
+        authService.logout(userId, refreshToken);
 
         // 클라이언트에 있는 refreshToken 쿠키 제거
         // maxAge를 0으로 설정하여 쿠키를 즉시 만료시킴
@@ -123,6 +158,28 @@ public class AuthController {
 
     }
 
+    // 로그인된 세션(기기) 목록
+    @GetMapping("/sessions")
+    public ResponseEntity<ApiResponse<List<SessionResponseDto>>> getSessions(
+            @RequestHeader("X-User-Id") String userId,
+            // 현재 기기의 세션 표시용
+            @CookieValue(value = "refreshToken", required = false) String refreshToken) {
+
+        List<SessionResponseDto> sessions = authService.getSessions(userId, refreshToken);
+
+        return ResponseEntity.ok(new ApiResponse<>("Sessions retrieved successfully", sessions));
+    }
+
+    // 특정 세션(기기) 로그아웃
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Map<String, String>> revokeSession(
+            @RequestHeader("X-User-Id") String userId,
+            @PathVariable String sessionId) {
+
+        authService.revokeSession(userId, sessionId);
+
+        return ResponseEntity.ok(Map.of("message", "Session has been revoked successfully"));
+    }
 
 //    // 회원 탈퇴
 //    @DeleteMapping("/withdraw")
@@ -1,12 +1,17 @@
 package com.example.authservice.controller;
 
+import com.example.authservice.dto.BatchDeleteRequestDto;
+import com.example.authservice.dto.BatchDeleteResponseDto;
+import com.example.authservice.dto.UserImportResponseDto;
 import com.example.authservice.service.InternalAuthService;
+import com.example.authservice.service.UserImportService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -14,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class InternalAuthController {
 
     private final InternalAuthService internalAuthService;
+    private final UserImportService userImportService;
 
     @DeleteMapping("/users/{userId}")
     public ResponseEntity<Void> deleteUser(@PathVariable String userId) {
@@ -21,4 +27,19 @@ public class InternalAuthController {
         internalAuthService.deleteUser(userId);
         return ResponseEntity.ok().build();
     }
+
+    // 일괄 회원 삭제, userId별 결과(DELETED, NOT_FOUND) 반환
+    @PostMapping("/users:batchDelete")
+    public ResponseEntity<BatchDeleteResponseDto> batchDeleteUsers(@Valid @RequestBody BatchDeleteRequestDto request) {
+
+        return ResponseEntity.ok(internalAuthService.batchDeleteUsers(request.getUserIds()));
+    }
+
+    // 계정 일괄 가져오기 (NDJSON, 한 줄에 사용자 한 명, 비밀번호는 해싱된 값)
+    // 본문을 스트림으로 읽으므로 수백만 줄도 일정한 메모리로 처리
+    @PostMapping(value = "/users:import", consumes = "application/x-ndjson")
+    public ResponseEntity<UserImportResponseDto> importUsers(InputStream body) throws IOException {
+
+        return ResponseEntity.ok(userImportService.importUsers(body));
+    }
 }
@@ -0,0 +1,69 @@
+package com.example.authservice.controller;
+
+import com.example.authservice.jwt.JwtKeyProperties;
+import com.example.authservice.jwt.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+// 토큰 검증용 공개키(JWK Set)를 제공하는 컨트롤러
+// 게이트웨이 및 다른 서비스는 이 키로 토큰을 직접 검증하므로 auth-service를 호출할 필요가 없다.
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyProperties jwtKeyProperties;
+
+    // JWKS 응답 캐시 시간(초), 키 교체 시 새 키를 먼저 공개한 뒤 이 시간 이상 지나서 활성화해야 한다.
+    @Value("${jwt.jwks.max-age-seconds:300}")
+    private long jwksMaxAgeSeconds;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        JwtKeyRing keyRing = jwtKeyProperties.getKeyRing();
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(jwksMaxAgeSeconds)).cachePublic();
+
+        // If-None-Match가 현재 ETag와 같으면 304 Not Modified (본문 없이 응답)
+        // 캐시가 유효 기간을 다시 계산할 수 있도록 200 응답과 같은 ETag, Cache-Control을 함께 보낸다.
+        if (matchesEtag(ifNoneMatch, keyRing.getJwksEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(keyRing.getJwksEtag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(keyRing.getJwksEtag())
+                .cacheControl(cacheControl)
+                .body(keyRing.getJwksJson());
+    }
+
+    // If-None-Match 목록("a", W/"b", *)에 현재 ETag가 있는지 여부 (약한 비교)
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String quoted = "\"" + etag + "\"";
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.strip();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(quoted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.authservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// 트랜잭션 아웃박스 (auth_outbox)
+// 이벤트를 UserEntity와 같은 트랜잭션에서 DB에 먼저 기록하고, OutboxRelay가 배치로 RabbitMQ에 발행한다.
+// 회원가입 응답이 브로커 상태에 영향을 받지 않고, 브로커 장애 시에도 이벤트가 유실되지 않는다.
+@Entity
+@Table(name = "auth_outbox",
+        // 발행 대기 이벤트를 id 순서로 조회
+        indexes = @Index(name = "idx_auth_outbox_status_id", columnList = "status, id"))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이벤트 종류 (ex: "user.created"), 발행 시 payload를 역직렬화할 타입 결정
+    @Column(nullable = false, length = 64)
+    private String eventType;
+
+    // 발행 대상 exchange, routing key (기록 시점의 설정값)
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(nullable = false)
+    private String routingKey;
+
+    // 이벤트 JSON
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    // 브로커 확인(confirm)을 받은 시각, null이면 미발행
+    private Instant sentAt;
+
+    // 발행 시도 횟수 (릴레이가 가져갈 때마다 증가)
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    // 릴레이 인스턴스가 발행 중인 이벤트의 점유 만료 시각, 그 전에는 다른 릴레이가 가져가지 않는다
+    // 발행 도중 인스턴스가 종료되면 만료 후 다시 발행된다.
+    private Instant claimedUntil;
+}
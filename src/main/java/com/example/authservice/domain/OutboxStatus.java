@@ -0,0 +1,8 @@
+package com.example.authservice.domain;
+
+// 아웃박스 이벤트 상태
+public enum OutboxStatus {
+    PENDING,    // 발행 대기 (재시도 포함)
+    SENT,       // 브로커 확인(confirm) 완료
+    FAILED      // 발행할 수 없거나 최대 시도 횟수 초과, 수동 확인 필요 (릴레이가 더 이상 조회하지 않음)
+}
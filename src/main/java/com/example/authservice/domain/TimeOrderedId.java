@@ -0,0 +1,16 @@
+package com.example.authservice.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 시간 순서 64비트 ID로 PK 생성 (TimeOrderedIdGenerator)
+// @GeneratedValue 대신 사용
+@IdGeneratorType(TimeOrderedIdHibernateGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
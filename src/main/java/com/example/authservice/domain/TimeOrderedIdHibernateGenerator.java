@@ -0,0 +1,20 @@
+package com.example.authservice.domain;
+
+import com.example.authservice.id.TimeOrderedIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+// @TimeOrderedId 필드의 Hibernate ID 생성기
+// hibernate.cdi.extensions: true 로 Hibernate가 스프링 빈 컨테이너(SpringBeanContainer)를 통해 생성하므로
+// TimeOrderedIdGenerator 빈을 생성자로 주입받는다.
+@RequiredArgsConstructor
+public class TimeOrderedIdHibernateGenerator implements IdentifierGenerator {
+
+    private final TimeOrderedIdGenerator idGenerator;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return idGenerator.nextId();
+    }
+}
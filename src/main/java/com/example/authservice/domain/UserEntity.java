@@ -7,7 +7,11 @@ import lombok.*;
 @Entity
 
 // 테이블 이름을 auth_user로 설정
-@Table(name = "auth_user")
+// 회원가입 시 중복 검사를 유니크 제약으로 처리하므로, 위반된 제약을 구분할 수 있도록 이름을 지정
+@Table(name = "auth_user", uniqueConstraints = {
+        @UniqueConstraint(name = UserEntity.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = UserEntity.USER_ID_UNIQUE_CONSTRAINT, columnNames = "userId")
+})
 
 // Lombok 어노테이션을 사용하여 getter, setter 매서드 자동으로 생성
 @Getter
@@ -26,20 +30,23 @@ import lombok.*;
 @Builder
 public class UserEntity {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_auth_user_email";
+    public static final String USER_ID_UNIQUE_CONSTRAINT = "uk_auth_user_user_id";
+
     // 기본 키(PK) 필드 지정
     @Id
-    // auto-increment 방식으로 PK 값 생성
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 애플리케이션에서 시간 순서 64비트 ID 생성 (IDENTITY는 insert 배치가 불가능)
+    @TimeOrderedId
     private Long id;
 
     // 유저 고유 식별자 (서비스 전역에 사용)
-    // null 불가, 중복 불가 제약 조건
-    @Column(nullable = false, unique = true)
+    // null 불가, 중복 불가 제약 조건 (uk_auth_user_user_id)
+    @Column(nullable = false)
     private String userId;
 
     // 로그인 이메일 (소셜 / 일반 공통)
-    // null 불가, 중복 불가 제약 조건
-    @Column(nullable = false, unique = true)
+    // null 불가, 중복 불가 제약 조건 (uk_auth_user_email)
+    @Column(nullable = false)
     private String email;
 
     // 일반 로그인일 경우에만 필요, 소셜 유저는 null
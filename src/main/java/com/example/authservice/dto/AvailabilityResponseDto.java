@@ -0,0 +1,13 @@
+package com.example.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// userId, email 사용 가능 여부 (요청하지 않은 값은 null)
+@Getter
+@AllArgsConstructor
+public class AvailabilityResponseDto {
+
+    private Boolean userIdAvailable;
+    private Boolean emailAvailable;
+}
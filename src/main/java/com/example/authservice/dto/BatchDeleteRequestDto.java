@@ -0,0 +1,20 @@
+package com.example.authservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 일괄 회원 삭제 요청 (내부 API)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDeleteRequestDto {
+
+    @NotEmpty(message = "userIds is required")
+    @Size(max = 10000, message = "Up to 10000 userIds per request")
+    private List<String> userIds;
+}
@@ -0,0 +1,28 @@
+package com.example.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 회원 삭제 결과 (요청한 userId 순서, 중복 제거)
+@Getter
+@AllArgsConstructor
+public class BatchDeleteResponseDto {
+
+    private int deleted;
+    private int notFound;
+    private List<Result> results;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private String userId;
+        private Status status;
+    }
+
+    public enum Status {
+        DELETED,
+        NOT_FOUND
+    }
+}
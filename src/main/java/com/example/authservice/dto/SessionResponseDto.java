@@ -0,0 +1,20 @@
+package com.example.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 로그인된 세션(기기) 정보
+@Getter
+@AllArgsConstructor
+public class SessionResponseDto {
+
+    private String sessionId;
+
+    // 마지막으로 refreshToken이 발급(재발급)된 시각
+    private Instant lastIssuedAt;
+
+    // 요청을 보낸 기기의 세션인지 여부
+    private boolean current;
+}
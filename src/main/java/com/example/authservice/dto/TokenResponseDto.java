@@ -9,6 +9,7 @@ import lombok.Getter;
 public class TokenResponseDto {
     private String accessToken;
 
+    // 쿠키로만 전달, refreshToken을 교체하지 않은 재발급이면 null
     @JsonIgnore
     private String refreshToken;
 }
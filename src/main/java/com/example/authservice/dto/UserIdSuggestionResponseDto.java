@@ -0,0 +1,14 @@
+package com.example.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 사용 가능한 userId 추천 목록 (요청한 userId가 사용 가능하면 첫 번째 값)
+@Getter
+@AllArgsConstructor
+public class UserIdSuggestionResponseDto {
+
+    private List<String> suggestions;
+}
@@ -0,0 +1,26 @@
+package com.example.authservice.dto;
+
+import com.example.authservice.domain.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일괄 가져오기 한 줄 (NDJSON)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRecordDto {
+
+    private String userId;
+    private String email;
+
+    // 이미 해싱된 비밀번호 ("{bcrypt}...", "{argon2}..." 또는 알고리즘 ID 없는 BCrypt "$2a$..."), 소셜 회원은 null
+    private String password;
+
+    // 없으면 GENERAL
+    private UserType userType;
+
+    // user-service로 전달되는 필드
+    private String profileName;
+    private String bio;
+}
@@ -0,0 +1,28 @@
+package com.example.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 가져오기 결과
+@Getter
+@AllArgsConstructor
+public class UserImportResponseDto {
+
+    private long imported;
+    private long duplicates;
+    private long invalid;
+
+    // 실패한 줄 일부 (최대 개수는 설정값, 전체 목록은 반환하지 않음)
+    private List<Failure> failures;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+        private long line;
+        private String userId;
+        private String email;
+        private String reason;
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.authservice.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+// 비동기 배치 발행기 (rabbitmq.publisher.async.enabled)
+// 요청 스레드는 크기가 정해진 메모리 대기열에 메시지를 넣고 바로 반환하고,
+// 발행 스레드가 대기열을 배치 단위로 꺼내 하나의 채널에서 연속으로 발행한다.
+// 브로커 확인은 CorrelationData로 비동기로 받고, nack/확인 시간 초과는 지수 백오프로 재발행한다. (at-least-once)
+@Slf4j
+@Component
+public class BatchingRabbitPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration confirmTimeout;
+
+    // 발행 대기 메시지
+    private final BlockingQueue<PendingMessage> queue;
+
+    // 재발행 예약 (백오프)
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Timer confirmTimer;
+    private final Counter nackCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Counter overflowCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public BatchingRabbitPublisher(
+            RabbitTemplate rabbitTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${rabbitmq.publisher.async.enabled:false}") boolean enabled,
+            @Value("${rabbitmq.publisher.async.queue-capacity:10000}") int queueCapacity,
+            @Value("${rabbitmq.publisher.async.batch-size:100}") int batchSize,
+            // 최초 발행 포함 최대 시도 횟수
+            @Value("${rabbitmq.publisher.async.max-attempts:5}") int maxAttempts,
+            @Value("${rabbitmq.publisher.async.initial-backoff:200ms}") Duration initialBackoff,
+            @Value("${rabbitmq.publisher.async.max-backoff:10s}") Duration maxBackoff,
+            @Value("${rabbitmq.publisher.async.confirm-timeout:5s}") Duration confirmTimeout
+    ) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.confirmTimeout = confirmTimeout;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rabbit-publisher-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("rabbitmq.publisher.queue.size", queue, BlockingQueue::size)
+                .description("Messages waiting to be published")
+                .register(meterRegistry);
+        this.confirmTimer = Timer.builder("rabbitmq.publisher.confirm.latency")
+                .description("Time from publish to broker ack")
+                .register(meterRegistry);
+        this.nackCounter = meterRegistry.counter("rabbitmq.publisher.nacks");
+        this.retryCounter = meterRegistry.counter("rabbitmq.publisher.retries");
+        this.failedCounter = meterRegistry.counter("rabbitmq.publisher.failed");
+        this.overflowCounter = meterRegistry.counter("rabbitmq.publisher.overflow");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "rabbit-publisher-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // 대기열에 넣고 바로 반환
+    // 대기열이 가득 차면 호출한 스레드에서 동기로 발행한다. (메시지를 버리지 않고 호출자를 늦춰 유입 속도를 제한)
+    public void enqueue(String exchange, String routingKey, Object payload) {
+        if (!queue.offer(new PendingMessage(exchange, routingKey, payload, 1))) {
+            overflowCounter.increment();
+            rabbitTemplate.convertAndSend(exchange, routingKey, payload);
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                publishBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error while publishing a batch", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 배치 전체를 하나의 채널에서 발행, 확인은 기다리지 않음
+    private void publishBatch(List<PendingMessage> batch) {
+        int[] published = {0};
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (PendingMessage message : batch) {
+                    operations.convertAndSend(message.exchange(), message.routingKey(), message.payload(), message.correlationData());
+                    published[0]++;
+                }
+                return null;
+            });
+        } catch (AmqpException e) {
+            log.warn("Failed to publish {} of {} messages in batch", batch.size() - published[0], batch.size(), e);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage message = batch.get(i);
+            if (i >= published[0]) {
+                // 발행되지 않은 메시지
+                retry(message);
+                continue;
+            }
+            long publishedAt = System.nanoTime();
+            message.correlationData().getFuture()
+                    .orTimeout(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((confirm, error) -> {
+                        if (error == null && confirm.isAck()) {
+                            confirmTimer.record(System.nanoTime() - publishedAt, TimeUnit.NANOSECONDS);
+                        } else {
+                            nackCounter.increment();
+                            retry(message);
+                        }
+                    });
+        }
+    }
+
+    // 지수 백오프 후 대기열에 다시 넣음 (initial * 2^(attempt-1), 최대 maxBackoff)
+    private void retry(PendingMessage message) {
+        if (message.attempt() >= maxAttempts) {
+            failedCounter.increment();
+            log.error("Giving up publishing to {}/{} after {} attempts",
+                    message.exchange(), message.routingKey(), message.attempt());
+            return;
+        }
+
+        retryCounter.increment();
+        long delay = Math.min(initialBackoff.toMillis() << (message.attempt() - 1), maxBackoff.toMillis());
+        PendingMessage next = message.nextAttempt();
+        try {
+            retryScheduler.schedule(() -> {
+                if (!queue.offer(next)) {
+                    overflowCounter.increment();
+                    retry(next);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            failedCounter.increment();
+            log.error("Publisher is shutting down, dropping retry to {}/{}", message.exchange(), message.routingKey());
+        }
+    }
+
+    // 종료 시 대기열에 남은 메시지를 발행한 뒤 종료 (최대 confirmTimeout 동안 대기)
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        // 발행 스레드는 running=false가 되면 대기열을 비운 뒤 종료
+        running = false;
+        flusher.join(confirmTimeout.toMillis());
+        retryScheduler.shutdown();
+    }
+
+    // 발행할 메시지와 시도 횟수, 시도마다 새 CorrelationData 사용
+    private record PendingMessage(String exchange, String routingKey, Object payload, int attempt,
+                                  CorrelationData correlationData) {
+
+        PendingMessage(String exchange, String routingKey, Object payload, int attempt) {
+            this(exchange, routingKey, payload, attempt, new CorrelationData());
+        }
+
+        PendingMessage nextAttempt() {
+            return new PendingMessage(exchange, routingKey, payload, attempt + 1);
+        }
+    }
+}
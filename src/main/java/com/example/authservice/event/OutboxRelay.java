@@ -0,0 +1,197 @@
+package com.example.authservice.event;
+
+import com.example.authservice.domain.OutboxEventEntity;
+import com.example.authservice.domain.OutboxStatus;
+import com.example.authservice.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 아웃박스 테이블의 미발행 이벤트를 배치로 RabbitMQ에 발행
+// 1. 짧은 트랜잭션에서 배치를 SKIP LOCKED로 가져와 점유 만료 시각(claimedUntil)을 기록하고 바로 커밋
+// 2. 트랜잭션 밖에서 배치 전체를 발행한 뒤 publisher confirm을 한꺼번에 기다린다.
+// 3. 짧은 트랜잭션에서 결과 반영: ack를 받고 반환되지 않은 이벤트는 SENT, 나머지는 점유를 풀어 다음 주기에 다시 발행
+// 발행 중 DB 커넥션과 행 잠금을 잡고 있지 않으며, 도중에 종료된 인스턴스의 이벤트는 점유가 만료되면 다시 발행된다.
+// (at-least-once, 소비자는 중복 이벤트를 처리할 수 있어야 함)
+// 최대 시도 횟수를 넘긴 이벤트와 발행할 수 없는 이벤트(알 수 없는 종류, 역직렬화 실패)는 FAILED로 전환해
+// 뒤의 이벤트가 막히지 않도록 한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final UserEventPublisher userEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 번에 발행할 최대 이벤트 수
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    // 배치 전체의 publisher confirm 대기 시간
+    @Value("${outbox.relay.confirm-timeout:5s}")
+    private Duration confirmTimeout;
+
+    // 가져간 이벤트의 점유 시간, 발행 + confirm 대기 시간보다 충분히 길어야 한다
+    @Value("${outbox.relay.claim-timeout:60s}")
+    private Duration claimTimeout;
+
+    // 최대 발행 시도 횟수, 넘기면 FAILED
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    // 발행 완료 이벤트 보관 기간
+    @Value("${outbox.relay.retention:7d}")
+    private Duration retention;
+
+    // 이전 실행이 끝난 뒤 interval-ms 후에 다시 실행
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        // 배치가 가득 찼으면 밀린 이벤트가 더 있을 수 있으므로 이어서 처리
+        int sent;
+        do {
+            sent = relayBatch();
+        } while (sent == batchSize);
+    }
+
+    // 발행 완료 이벤트 정리 (매시 정각)
+    @Scheduled(cron = "${outbox.relay.cleanup-cron:0 0 * * * *}")
+    public void cleanUp() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deleteSentBefore(Instant.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} sent outbox events", deleted);
+        }
+    }
+
+    // 배치 하나 발행, ack를 받은 이벤트 수 반환
+    private int relayBatch() {
+
+        List<OutboxEventEntity> events = claimBatch();
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 배치 전체 발행 (confirm은 기다리지 않음)
+        Map<Long, CorrelationData> pending = new LinkedHashMap<>();
+        List<Long> failed = new ArrayList<>();
+        List<Long> unpublishable = new ArrayList<>();
+        for (OutboxEventEntity event : events) {
+            Object payload;
+            try {
+                payload = toEvent(event);
+            } catch (JsonProcessingException | IllegalStateException e) {
+                // 다시 시도해도 성공할 수 없는 이벤트
+                log.error("Outbox event {} ({}) cannot be published and is marked as failed",
+                        event.getId(), event.getEventType(), e);
+                unpublishable.add(event.getId());
+                continue;
+            }
+
+            try {
+                CorrelationData correlationData = new CorrelationData("outbox-" + event.getId());
+                userEventPublisher.publish(event.getExchange(), event.getRoutingKey(), payload, correlationData);
+                pending.put(event.getId(), correlationData);
+            } catch (AmqpException e) {
+                log.warn("Failed to publish outbox event {} ({})", event.getId(), event.getEventType(), e);
+                failed.add(event.getId());
+            }
+        }
+
+        // 2. confirm 대기 (배치 전체에 하나의 마감 시간)
+        List<Long> sent = new ArrayList<>();
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        for (Map.Entry<Long, CorrelationData> entry : pending.entrySet()) {
+            if (isAcked(entry.getValue(), deadline)) {
+                sent.add(entry.getKey());
+            } else {
+                failed.add(entry.getKey());
+            }
+        }
+
+        // 3. 결과 반영
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                outboxRepository.markSent(sent, OutboxStatus.SENT, Instant.now());
+            }
+            if (!unpublishable.isEmpty()) {
+                outboxRepository.park(unpublishable, OutboxStatus.FAILED);
+            }
+            if (!failed.isEmpty()) {
+                int parked = outboxRepository.parkExhausted(failed, OutboxStatus.FAILED, maxAttempts);
+                outboxRepository.release(failed);
+                log.warn("{} outbox events were not confirmed, {} reached {} attempts and are marked as failed",
+                        failed.size(), parked, maxAttempts);
+            }
+        });
+        return sent.size();
+    }
+
+    // 발행할 배치를 가져와 점유하고 바로 커밋 (다른 인스턴스가 잠근 행은 건너뜀)
+    private List<OutboxEventEntity> claimBatch() {
+        List<OutboxEventEntity> events = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboxEventEntity> claimable = outboxRepository.findClaimableForUpdate(
+                    OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+            if (!claimable.isEmpty()) {
+                outboxRepository.claim(claimable.stream().map(OutboxEventEntity::getId).toList(), now.plus(claimTimeout));
+            }
+            return claimable;
+        });
+        return events != null ? events : List.of();
+    }
+
+    // 브로커가 ack 하고 반환하지도 않았는지 여부
+    // 라우팅되지 않은 메시지(mandatory)도 ack를 받으므로, 반환된 메시지(getReturned)는 실패로 처리해 다시 발행한다.
+    // (반환은 confirm보다 먼저 correlationData에 기록된다)
+    private boolean isAcked(CorrelationData correlationData, long deadline) {
+        try {
+            long remaining = Math.max(deadline - System.nanoTime(), 0);
+            if (!correlationData.getFuture().get(remaining, TimeUnit.NANOSECONDS).isAck()) {
+                return false;
+            }
+            ReturnedMessage returned = correlationData.getReturned();
+            if (returned != null) {
+                log.warn("Outbox event {} was returned by broker: exchange={}, routingKey={}, replyText={}",
+                        correlationData.getId(), returned.getExchange(), returned.getRoutingKey(), returned.getReplyText());
+                return false;
+            }
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 이벤트 종류에 맞는 타입으로 역직렬화 (직접 발행할 때와 같은 메시지 형식으로 변환되도록)
+    private Object toEvent(OutboxEventEntity event) throws JsonProcessingException {
+        return switch (event.getEventType()) {
+            case UserEventOutbox.USER_CREATED -> objectMapper.readValue(event.getPayload(), UserCreatedEvent.class);
+            default -> throw new IllegalStateException("Unknown outbox event type: " + event.getEventType());
+        };
+    }
+}
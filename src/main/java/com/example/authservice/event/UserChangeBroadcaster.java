@@ -0,0 +1,84 @@
+package com.example.authservice.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.UUID;
+
+// 사용자 변경(UserChangedEvent)을 모든 레플리카에 전달
+// 자신에게는 스프링 이벤트로 바로 발행하고, 다른 레플리카에는 Redis pub/sub으로 보낸다.
+// 수신한 레플리카는 같은 스프링 이벤트로 다시 발행하므로, 구독하는 쪽(UserLookupCache 등)은 @EventListener만 구현하면 된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserChangeBroadcaster implements MessageListener {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    // 이 인스턴스 식별값
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${user-change.channel:auth:user-changes}")
+    private String channel;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 전달 (롤백되면 전달하지 않음)
+    public void broadcast(UserChangedEvent event) {
+        event.setOrigin(instanceId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(UserChangedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 다른 레플리카의 캐시는 TTL로 만료될 때까지 남아있을 수 있음
+            log.warn("Failed to broadcast user change {}", event.getType(), e);
+        }
+    }
+
+    // 다른 레플리카가 보낸 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            UserChangedEvent event = objectMapper.readValue(message.getBody(), UserChangedEvent.class);
+            if (!instanceId.equals(event.getOrigin())) {
+                applicationEventPublisher.publishEvent(event);
+            }
+        } catch (IOException e) {
+            log.warn("Ignoring malformed user change message", e);
+        }
+    }
+}
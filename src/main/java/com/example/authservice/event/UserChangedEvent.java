@@ -0,0 +1,46 @@
+package com.example.authservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 사용자 변경 알림 (인스턴스 내부 스프링 이벤트 + 레플리카 간 Redis pub/sub 메시지)
+// UserChangeBroadcaster가 모든 레플리카에 전달하고, 각 레플리카에서 스프링 이벤트로 다시 발행된다.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserChangedEvent {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    private Type type;
+    private List<String> userIds;
+
+    // CREATED 이벤트에만 포함 (userIds와 같은 순서)
+    private List<String> emails;
+
+    // 메시지를 보낸 인스턴스 (자신이 보낸 메시지는 수신 시 무시)
+    private String origin;
+
+    public static UserChangedEvent created(List<String> userIds, List<String> emails) {
+        return UserChangedEvent.builder()
+                .type(Type.CREATED)
+                .userIds(userIds)
+                .emails(emails)
+                .build();
+    }
+
+    public static UserChangedEvent deleted(List<String> userIds) {
+        return UserChangedEvent.builder()
+                .type(Type.DELETED)
+                .userIds(userIds)
+                .build();
+    }
+}
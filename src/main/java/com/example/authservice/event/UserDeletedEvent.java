@@ -0,0 +1,16 @@
+package com.example.authservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// user-service에서 발행하는 회원 탈퇴 이벤트
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserDeletedEvent {
+
+    private String userId;
+}
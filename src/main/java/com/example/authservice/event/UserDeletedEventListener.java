@@ -0,0 +1,74 @@
+package com.example.authservice.event;
+
+import com.example.authservice.config.RabbitConfig;
+import com.example.authservice.config.RabbitProperties;
+import com.example.authservice.service.InternalAuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 회원 탈퇴 이벤트 배치 소비
+// 메시지를 배치로 받아 DB 삭제 한 번, Redis 삭제 한 번으로 처리하고, 리스너가 정상 반환하면 배치 전체를 한 번에 ack 한다.
+//  - 메시지는 하나씩 변환해, 변환할 수 없는 메시지만 DLQ로 보내고 나머지는 그대로 처리한다.
+//  - 삭제 중 예외가 발생하면 배치 전체를 제한된 횟수만큼 재시도하고, 그래도 실패하면 DLQ로 보낸다. (RabbitConfig)
+//    삭제는 멱등이므로 중복 처리되어도 문제없다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDeletedEventListener {
+
+    private final InternalAuthService internalAuthService;
+    private final ObjectMapper objectMapper;
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitProperties rabbitProperties;
+
+    @RabbitListener(queues = "${rabbitmq.queues.user.deleted}", containerFactory = "batchListenerContainerFactory")
+    public void onUserDeleted(List<Message> messages) {
+
+        Set<String> userIds = new HashSet<>();
+        for (Message message : messages) {
+            UserDeletedEvent event = toEvent(message);
+            if (event != null && event.getUserId() != null) {
+                userIds.add(event.getUserId());
+            }
+        }
+
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        int deleted = internalAuthService.deleteUsers(userIds);
+        log.debug("Processed {} user.deleted events, deleted {} users", messages.size(), deleted);
+    }
+
+    // 발행 측 클래스명(__TypeId__ 헤더)과 관계없이 UserDeletedEvent로 변환, 실패하면 DLQ로 보내고 null
+    private UserDeletedEvent toEvent(Message message) {
+        try {
+            return objectMapper.readValue(message.getBody(), UserDeletedEvent.class);
+        } catch (IOException e) {
+            log.warn("Discarding malformed user.deleted message to the dead letter queue", e);
+            deadLetter(message);
+            return null;
+        }
+    }
+
+    private void deadLetter(Message message) {
+        try {
+            rabbitTemplate.send(RabbitConfig.deadLetterExchange(rabbitProperties),
+                    rabbitProperties.getQueues().getUser().getDeleted(), message);
+        } catch (AmqpException e) {
+            // DLQ로 보내지 못해도 배치의 다른 메시지 처리는 계속한다 (잘못된 메시지는 다시 처리해도 실패)
+            log.error("Failed to dead-letter malformed user.deleted message", e);
+        }
+    }
+}
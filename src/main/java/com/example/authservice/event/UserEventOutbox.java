@@ -0,0 +1,70 @@
+package com.example.authservice.event;
+
+import com.example.authservice.config.RabbitProperties;
+import com.example.authservice.domain.OutboxEventEntity;
+import com.example.authservice.domain.OutboxStatus;
+import com.example.authservice.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+// 사용자 이벤트를 아웃박스 테이블에 기록
+// 호출하는 쪽의 트랜잭션에 참여하므로 UserEntity 저장과 함께 커밋/롤백된다.
+@Component
+@RequiredArgsConstructor
+public class UserEventOutbox {
+
+    // 아웃박스 이벤트 종류
+    public static final String USER_CREATED = "user.created";
+
+    private final OutboxRepository outboxRepository;
+    private final RabbitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addUserCreatedEvent(UserCreatedEvent event) {
+        outboxRepository.save(OutboxEventEntity.builder()
+                .eventType(USER_CREATED)
+                .exchange(properties.getExchanges().getUser())
+                .routingKey(properties.getRoutingKeys().getUser().getCreated())
+                .payload(toJson(event))
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    // 여러 이벤트를 JDBC 배치 insert로 기록 (일괄 가져오기)
+    // 엔티티의 기본값(status = PENDING)은 JPA 저장에만 적용되므로 모든 NOT NULL 컬럼을 직접 지정한다.
+    public void addUserCreatedEvents(List<UserCreatedEvent> events) {
+        String exchange = properties.getExchanges().getUser();
+        String routingKey = properties.getRoutingKeys().getUser().getCreated();
+        Timestamp createdAt = Timestamp.from(Instant.now());
+
+        jdbcTemplate.batchUpdate(
+                "insert into auth_outbox (event_type, exchange, routing_key, payload, created_at, status, attempts)"
+                        + " values (?, ?, ?, ?, ?, ?, 0)",
+                events,
+                events.size(),
+                (ps, event) -> {
+                    ps.setString(1, USER_CREATED);
+                    ps.setString(2, exchange);
+                    ps.setString(3, routingKey);
+                    ps.setString(4, toJson(event));
+                    ps.setTimestamp(5, createdAt);
+                    ps.setString(6, OutboxStatus.PENDING.name());
+                });
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event", e);
+        }
+    }
+}
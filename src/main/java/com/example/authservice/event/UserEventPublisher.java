@@ -2,20 +2,33 @@ package com.example.authservice.event;
 
 import com.example.authservice.config.RabbitProperties;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class UserEventPublisher {
 
-    private final AmqpTemplate amqpTemplate;
+    private final RabbitTemplate rabbitTemplate;
     private final RabbitProperties properties;
 
+    // 비동기 모드에서는 대기열에 넣고 바로 반환 (BatchingRabbitPublisher)
+    private final BatchingRabbitPublisher batchingRabbitPublisher;
+
     public void sendUserCreatedEvent(UserCreatedEvent event) {
-        amqpTemplate.convertAndSend(
-                properties.getExchanges().getUser(),
-                properties.getRoutingKeys().getUser().getCreated(),
-                event);
+        String exchange = properties.getExchanges().getUser();
+        String routingKey = properties.getRoutingKeys().getUser().getCreated();
+
+        if (batchingRabbitPublisher.isEnabled()) {
+            batchingRabbitPublisher.enqueue(exchange, routingKey, event);
+            return;
+        }
+        rabbitTemplate.convertAndSend(exchange, routingKey, event);
+    }
+
+    // 브로커 확인(publisher confirm) 결과를 correlationData의 future로 받는 발행 (아웃박스 릴레이)
+    public void publish(String exchange, String routingKey, Object event, CorrelationData correlationData) {
+        rabbitTemplate.convertAndSend(exchange, routingKey, event, correlationData);
     }
 }
@@ -0,0 +1,16 @@
+package com.example.authservice.exception.auth;
+
+import com.example.common.exception.BaseCustomException;
+
+// 비밀번호 해싱 대기열이 가득 찼거나 대기 시간이 초과된 경우
+public class PasswordHashingOverloadedException extends BaseCustomException {
+
+    public PasswordHashingOverloadedException() {
+        super("Server is busy, please try again later");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 503;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.authservice.exception.id;
+
+import com.example.common.exception.BaseCustomException;
+
+// 워커 ID 임대를 확인하지 못해 ID를 만들 수 없는 경우 (Redis 장애가 임대 TTL보다 길게 이어질 때)
+public class IdGenerationUnavailableException extends BaseCustomException {
+
+    public IdGenerationUnavailableException() {
+        super("Service is temporarily unavailable, please try again later");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 503;
+    }
+}
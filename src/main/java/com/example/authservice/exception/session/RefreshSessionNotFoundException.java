@@ -0,0 +1,14 @@
+package com.example.authservice.exception.session;
+
+import com.example.common.exception.BaseCustomException;
+
+public class RefreshSessionNotFoundException extends BaseCustomException {
+    public RefreshSessionNotFoundException() {
+        super("Refresh session not found");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 404;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.authservice.exception.user;
+
+import com.example.common.exception.BaseCustomException;
+
+public class BreachedPasswordException extends BaseCustomException {
+
+    public BreachedPasswordException() {
+        super("This password has appeared in a data breach. Please choose a different password");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 400;
+    }
+}
@@ -1,11 +1,12 @@
 package com.example.authservice.handler;
 
-import com.example.authservice.domain.UserEntity;
 import com.example.authservice.domain.UserType;
 import com.example.authservice.exception.auth.GeneralAccountLoginOnlyException;
 import com.example.authservice.jwt.JwtTokenProvider;
-import com.example.authservice.repository.AuthRepository;
+import com.example.authservice.repository.projection.UserIdentity;
 import com.example.authservice.service.RedisService;
+import com.example.authservice.service.UserIdSuggestionService;
+import com.example.authservice.service.UserLookupCache;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -25,13 +26,16 @@ import java.util.Optional;
 // OAuth2 로그인 성공 시 처리하는 핸들러
 public class CustomOAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
-    // 사용자 존재 여부 확인을 위한 리포지토리
-    private final AuthRepository authRepository;
+    // 사용자 존재 여부 확인을 위한 캐시 (없으면 DB 조회)
+    private final UserLookupCache userLookupCache;
     // JWT 생성 유틸
     private final JwtTokenProvider jwtTokenProvider;
     // refresh token 저장용 Redis 서비스
     private final RedisService redisService;
 
+    // 신규 소셜 회원의 userId 제안용
+    private final UserIdSuggestionService userIdSuggestionService;
+
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
@@ -56,21 +60,22 @@ public class CustomOAuth2SuccessHandler implements AuthenticationSuccessHandler
         String profileImageUrl = (String) oAuth2User.getAttributes().get("profileImageUrl");
         String oauthUserId = (String) oAuth2User.getAttributes().get("userId");
 
-        // 기존 회원 여부 확인
-        Optional<UserEntity> userOpt = authRepository.findByEmail(email);
+        // 기존 회원 여부 확인 (식별 정보만 조회, 캐시 우선)
+        Optional<UserIdentity> userOpt = userLookupCache.findByEmail(email);
 
         if (userOpt.isPresent()) {
-            UserEntity user = userOpt.get();
+            UserIdentity user = userOpt.get();
 
-            if (!user.getUserType().equals(UserType.valueOf(provider.toUpperCase()))) {
+            if (!user.userType().equals(UserType.valueOf(provider.toUpperCase()))) {
                 throw new GeneralAccountLoginOnlyException();
             }
 
             // 기존 회원일 경우: refresh token  발급 및 Redis 저장 후 쿠키로 전송
-            String userId = userOpt.get().getUserId();
+            String userId = user.userId();
 
-            String refreshToken = jwtTokenProvider.createRefreshToken(userId);
-            redisService.storeRefreshToken(userId, refreshToken);
+            String sessionId = jwtTokenProvider.newSessionId();
+            String refreshToken = jwtTokenProvider.createRefreshToken(userId, sessionId);
+            redisService.storeRefreshToken(userId, sessionId, refreshToken);
 
             Cookie refreshTokenCookie = new Cookie("refreshToken", refreshToken);
             refreshTokenCookie.setHttpOnly(true);
@@ -80,7 +85,10 @@ public class CustomOAuth2SuccessHandler implements AuthenticationSuccessHandler
         } else {
             // 신규 회원일 경우: 필요한 정보를 쿠키로 전달해 프론트에서 회원가입 진행
             response.addCookie(newCookie("email", email));
-            response.addCookie(newCookie("userId", oauthUserId));
+            // 이메일 앞부분은 다른 회원과 겹치는 경우가 많으므로, 사용 가능한 가장 가까운 userId를 전달
+            response.addCookie(newCookie("userId", userIdSuggestionService.suggest(oauthUserId, 1).stream()
+                    .findFirst()
+                    .orElse(oauthUserId)));
             response.addCookie(newCookie("profileName", profileName));
             response.addCookie(newCookie("provider", provider));
         }
@@ -0,0 +1,256 @@
+package com.example.authservice.id;
+
+import com.example.authservice.exception.id.IdGenerationUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 시간 순서 64비트 ID 생성기 (UserEntity.id)
+// [부호 1비트 = 0][커스텀 epoch 이후 ms 41비트][워커 ID 10비트][시퀀스 12비트]
+//  - 애플리케이션에서 ID를 만들기 때문에 IDENTITY와 달리 insert 마다 키를 받아오는 왕복이 없고, Hibernate insert 배치가 가능하다.
+//  - 값이 시간 순으로 증가하므로 B-tree(PK) insert가 항상 오른쪽 끝에 추가된다.
+//  - 워커 ID는 Redis에서 임대(SET NX + TTL)하므로 레플리카끼리 겹치지 않는다. (id-generator.worker-id로 고정 가능)
+//  - 기존 AUTO_INCREMENT 값은 새 ID보다 항상 작으므로 기존 행은 그대로 두고 순서도 유지된다.
+//
+// 중복 ID 방지
+//  - 임대는 마지막으로 연장에 성공한 시각 + TTL까지만 유효하다고 보고, 그 이후의 시각으로는 ID를 만들지 않는다.
+//    (IdGenerationUnavailableException, 503)
+//    Redis 장애로 연장하지 못하는 동안 임대가 만료되어 다른 인스턴스가 같은 워커 ID를 가져가도 겹치지 않는다.
+//  - 연장할 때마다 "이 워커 ID로 만들 수 있는 마지막 시각"(유효 기한)을 Redis에 함께 기록한다. (TTL 없음)
+//    워커 ID를 새로 임대했을 때 현재 시각이 기록된 기한보다 이르면 (재시작 후 시계가 뒤로 간 경우)
+//    이전 소유자가 이미 사용했을 수 있는 시각이므로, 차이가 작으면 기다리고 크면 기동을 실패시킨다.
+//  - 고정 워커 ID(id-generator.worker-id)는 임대/기한 기록을 하지 않으므로 위 검사가 없다. (운영자가 유일성과 시계를 보장)
+//
+// 운영 환경에서는 고정 워커 ID를 권장한다.
+//  - 임대 모드는 Redis 장애가 임대 TTL(id-generator.lease-ttl)보다 길어지면 회원가입/가져오기가 503으로 실패한다.
+//  - 고정 모드는 Redis에 의존하지 않는다. StatefulSet 순번(파드 이름의 접미사) 등 인스턴스마다 다른 0~1023 값을
+//    id-generator.worker-id로 지정하고, NTP 등으로 시계가 크게 뒤로 가지 않게 한다.
+//  - 임대 모드는 인스턴스 수가 자주 바뀌는 개발/스테이징 환경이나 고정 값을 줄 수 없는 배포에 사용한다.
+@Slf4j
+@Component
+public class TimeOrderedIdGenerator {
+
+    // 2024-01-01T00:00:00Z, 41비트 ms로 약 69년 사용 가능
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int WORKER_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final int MAX_WORKER_ID = (1 << WORKER_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 임대 키 idgen:worker:{n}, 유효 기한 키 idgen:worker:{n}:horizon (Redis Cluster에서 같은 슬롯)
+    private static final String WORKER_KEY_PREFIX = "idgen:worker:";
+    private static final String HORIZON_KEY_SUFFIX = ":horizon";
+
+    // 자신이 임대한 워커 ID일 때만 TTL 연장 + 유효 기한 기록 (기록된 값보다 클 때만)
+    private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "local horizon = tonumber(redis.call('GET', KEYS[2]) or '0') "
+                    + "if tonumber(ARGV[3]) > horizon then redis.call('SET', KEYS[2], ARGV[3]) end "
+                    + "return 1",
+            Long.class);
+
+    // 임대 유효 기한이 없음 (고정 워커 ID)
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 0 이상이면 Redis 임대 대신 고정 워커 ID 사용 (StatefulSet 순번 등)
+    private final int configuredWorkerId;
+    private final Duration leaseTtl;
+
+    // 새로 임대한 워커 ID의 유효 기한보다 시계가 이만큼까지 뒤처져 있으면 기다린다. 더 크면 실패
+    private final Duration maxClockRollback;
+
+    // 임대 소유자 식별값
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 아래 두 값은 nextId와 같은 락(this) 안에서 함께 바꾼다
+    private int workerId = -1;
+
+    // 이 시각(ms) 이후로는 ID를 만들지 않음 (마지막 연장 성공 시각 + TTL)
+    private long leaseValidUntil = -1;
+
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public TimeOrderedIdGenerator(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${id-generator.worker-id:-1}") int configuredWorkerId,
+            @Value("${id-generator.lease-ttl:60s}") Duration leaseTtl,
+            @Value("${id-generator.max-clock-rollback:5s}") Duration maxClockRollback) {
+        this.redisTemplate = redisTemplate;
+        this.configuredWorkerId = configuredWorkerId;
+        this.leaseTtl = leaseTtl;
+        this.maxClockRollback = maxClockRollback;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (configuredWorkerId >= 0) {
+            if (configuredWorkerId > MAX_WORKER_ID) {
+                throw new IllegalStateException("id-generator.worker-id must be between 0 and " + MAX_WORKER_ID);
+            }
+            useWorkerId(configuredWorkerId, NO_EXPIRY);
+            log.info("Time-ordered id generator started with worker id {}", configuredWorkerId);
+        } else {
+            log.info("Time-ordered id generator started with worker id {}", acquireWorkerId());
+        }
+    }
+
+    // 다음 ID
+    // 같은 ms 안에서는 시퀀스를 올리고, 시퀀스가 넘치거나 시계가 뒤로 가면 마지막 시각을 1ms씩 앞당겨 사용한다. (단조 증가 유지)
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis();
+
+        long timestamp = lastTimestamp;
+        long nextSequence = sequence;
+        if (now > timestamp) {
+            timestamp = now;
+            nextSequence = 0;
+        } else if (++nextSequence > SEQUENCE_MASK) {
+            timestamp++;
+            nextSequence = 0;
+        }
+
+        // 임대를 확인하지 못한 구간의 시각으로는 만들지 않음 (상태는 바꾸지 않고 실패)
+        if (timestamp >= leaseValidUntil) {
+            throw new IdGenerationUnavailableException();
+        }
+
+        lastTimestamp = timestamp;
+        sequence = nextSequence;
+        return ((timestamp - EPOCH_MILLIS) << (WORKER_ID_BITS + SEQUENCE_BITS))
+                | ((long) workerId << SEQUENCE_BITS)
+                | nextSequence;
+    }
+
+    // 여러 개를 한 번에 (일괄 가져오기)
+    public long[] nextIds(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = nextId();
+        }
+        return ids;
+    }
+
+    // TTL의 1/3 주기로 임대 연장, 임대를 잃었으면 (Redis 장애 등으로 만료) 새 워커 ID를 임대
+    // Redis 오류로 연장하지 못하면 기존 유효 기한이 지난 뒤부터 nextId가 실패한다.
+    @Scheduled(fixedDelayString = "${id-generator.renew-interval-ms:20000}")
+    public void renewLease() {
+        if (configuredWorkerId >= 0) {
+            return;
+        }
+
+        int current;
+        synchronized (this) {
+            current = workerId;
+        }
+        if (current >= 0 && confirmLease(current)) {
+            return;
+        }
+
+        int acquired = acquireWorkerId();
+        log.warn("Lost worker id lease {}, acquired {}", current, acquired);
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        int current;
+        synchronized (this) {
+            current = workerId;
+        }
+        if (configuredWorkerId < 0 && current >= 0) {
+            // 유효 기한 키는 남겨 두어 다음 소유자가 시계를 확인할 수 있게 한다
+            String key = workerKey(current);
+            if (instanceId.equals(redisTemplate.opsForValue().get(key))) {
+                redisTemplate.delete(key);
+            }
+        }
+    }
+
+    // 임의의 위치부터 비어 있는 워커 ID를 찾아 임대
+    private int acquireWorkerId() {
+        int start = ThreadLocalRandom.current().nextInt(MAX_WORKER_ID + 1);
+        for (int i = 0; i <= MAX_WORKER_ID; i++) {
+            int candidate = (start + i) & MAX_WORKER_ID;
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(workerKey(candidate), instanceId, leaseTtl.toMillis(), TimeUnit.MILLISECONDS);
+            if (Boolean.TRUE.equals(acquired)) {
+                try {
+                    awaitHorizon(candidate);
+                } catch (RuntimeException e) {
+                    redisTemplate.delete(workerKey(candidate));
+                    throw e;
+                }
+                if (!confirmLease(candidate)) {
+                    throw new IllegalStateException("Lost worker id lease " + candidate + " right after acquiring it");
+                }
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No free worker id for time-ordered id generation");
+    }
+
+    // 이전 소유자가 기록한 유효 기한까지 시계가 따라오기를 기다림 (재시작 후 시계가 뒤로 간 경우)
+    private void awaitHorizon(int candidate) {
+        String value = redisTemplate.opsForValue().get(workerKey(candidate) + HORIZON_KEY_SUFFIX);
+        if (value == null) {
+            return;
+        }
+
+        long behind = Long.parseLong(value) - System.currentTimeMillis();
+        if (behind <= 0) {
+            return;
+        }
+        if (behind > maxClockRollback.toMillis()) {
+            throw new IllegalStateException("Clock is " + behind + "ms behind the last timestamp issued with worker id "
+                    + candidate + ", refusing to generate ids");
+        }
+
+        log.warn("Clock is {}ms behind the last timestamp issued with worker id {}, waiting", behind, candidate);
+        try {
+            Thread.sleep(behind);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the clock", e);
+        }
+    }
+
+    // 임대 연장 + 유효 기한 기록, 성공하면 이 인스턴스의 유효 기한도 갱신
+    // 요청 전 시각을 기준으로 하므로 실제 Redis의 만료 시각보다 항상 이르다.
+    private boolean confirmLease(int candidate) {
+        long validUntil = System.currentTimeMillis() + leaseTtl.toMillis();
+        String key = workerKey(candidate);
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key, key + HORIZON_KEY_SUFFIX),
+                instanceId, String.valueOf(leaseTtl.toMillis()), String.valueOf(validUntil));
+        if (renewed == null || renewed == 0) {
+            return false;
+        }
+
+        useWorkerId(candidate, validUntil);
+        return true;
+    }
+
+    private synchronized void useWorkerId(int candidate, long validUntil) {
+        workerId = candidate;
+        leaseValidUntil = validUntil;
+    }
+
+    static String workerKey(int id) {
+        return WORKER_KEY_PREFIX + "{" + id + "}";
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.authservice.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.*;
+
+// kid별 서명/검증 키 묶음 (불변 스냅샷)
+// 키 교체 시 새 스냅샷을 만들어 통째로 바꾸므로, 읽는 쪽은 잠금 없이 항상 일관된 키 집합을 본다.
+@Getter
+public class JwtKeyRing {
+
+    // 토큰 발급에 사용하는 활성 키
+    private final SigningKey signingKey;
+
+    // kid -> 검증키
+    private final Map<String, VerificationKey> verificationKeys;
+
+    // kid 헤더가 없는 토큰(kid 도입 이전 발급)을 위한 alg -> 검증키
+    private final Map<String, VerificationKey> legacyKeysByAlgorithm;
+
+    // /.well-known/jwks.json 응답 본문과 ETag (스냅샷 생성 시 한 번만 계산)
+    private final String jwksJson;
+    private final String jwksEtag;
+
+    public record SigningKey(String kid, PrivateKey privateKey, SigningAlgorithm algorithm) {
+    }
+
+    public record VerificationKey(String kid, PublicKey publicKey, SigningAlgorithm algorithm) {
+    }
+
+    // verificationKeys는 우선순위 순서(활성 키 먼저)로 전달
+    JwtKeyRing(SigningKey signingKey, List<VerificationKey> verificationKeys) {
+        this.signingKey = signingKey;
+
+        Map<String, VerificationKey> byKid = new LinkedHashMap<>();
+        Map<String, VerificationKey> byAlgorithm = new HashMap<>();
+        for (VerificationKey key : verificationKeys) {
+            if (byKid.putIfAbsent(key.kid(), key) != null) {
+                throw new IllegalArgumentException("Duplicate JWT key id: " + key.kid());
+            }
+            byAlgorithm.putIfAbsent(key.algorithm().getId(), key);
+        }
+        this.verificationKeys = Collections.unmodifiableMap(byKid);
+        this.legacyKeysByAlgorithm = Map.copyOf(byAlgorithm);
+
+        this.jwksJson = toJwksJson(byKid.values());
+        this.jwksEtag = sha256Base64Url(jwksJson.getBytes(StandardCharsets.UTF_8)).substring(0, 27);
+    }
+
+    // JWS 헤더의 kid, alg 값으로 검증키 조회 (없으면 null)
+    public PublicKey findVerificationKey(String kid, String algorithm) {
+        VerificationKey key = kid != null
+                ? verificationKeys.get(kid)
+                : legacyKeysByAlgorithm.get(algorithm);
+
+        // 헤더의 alg와 키의 알고리즘이 다르면 검증하지 않음 (알고리즘 혼동 공격 방지)
+        if (key == null || !key.algorithm().getId().equals(algorithm)) {
+            return null;
+        }
+        return key.publicKey();
+    }
+
+    // 설정에 kid가 없을 때 사용하는 공개키 기반 kid (모든 레플리카에서 같은 값)
+    static String deriveKeyId(PublicKey publicKey) {
+        return sha256Base64Url(publicKey.getEncoded()).substring(0, 16);
+    }
+
+    // RFC 7517 JWK Set 직렬화
+    private static String toJwksJson(Collection<VerificationKey> keys) {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (VerificationKey key : keys) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kid", key.kid());
+            jwk.put("use", "sig");
+            jwk.put("alg", key.algorithm().getId());
+
+            switch (key.algorithm()) {
+                case RS256 -> {
+                    RSAPublicKey rsaKey = (RSAPublicKey) key.publicKey();
+                    jwk.put("kty", "RSA");
+                    jwk.put("n", base64Url(unsigned(rsaKey.getModulus())));
+                    jwk.put("e", base64Url(unsigned(rsaKey.getPublicExponent())));
+                }
+                case ES256 -> {
+                    ECPublicKey ecKey = (ECPublicKey) key.publicKey();
+                    jwk.put("kty", "EC");
+                    jwk.put("crv", "P-256");
+                    jwk.put("x", base64Url(fixedLength(ecKey.getW().getAffineX(), 32)));
+                    jwk.put("y", base64Url(fixedLength(ecKey.getW().getAffineY(), 32)));
+                }
+                case EDDSA -> {
+                    // Ed25519 X.509 인코딩(44바이트)의 마지막 32바이트가 원시 공개키
+                    byte[] encoded = key.publicKey().getEncoded();
+                    jwk.put("kty", "OKP");
+                    jwk.put("crv", "Ed25519");
+                    jwk.put("x", base64Url(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+                }
+            }
+            jwks.add(jwk);
+        }
+
+        try {
+            return new ObjectMapper().writeValueAsString(Map.of("keys", jwks));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize JWK set", e);
+        }
+    }
+
+    // BigInteger의 부호 바이트(0x00)를 제거한 빅엔디안 바이트 배열
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            return Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return bytes;
+    }
+
+    // EC 좌표는 곡선 크기에 맞춰 앞쪽을 0으로 채운다
+    private static byte[] fixedLength(BigInteger value, int length) {
+        byte[] bytes = unsigned(value);
+        byte[] result = new byte[length];
+        System.arraycopy(bytes, 0, result, length - bytes.length, bytes.length);
+        return result;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String sha256Base64Url(byte[] bytes) {
+        try {
+            return base64Url(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
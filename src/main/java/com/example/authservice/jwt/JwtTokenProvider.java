@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.security.Key;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.time.Instant;
@@ -21,16 +22,37 @@ public class JwtTokenProvider {
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    // 검증된 토큰 캐시 (비활성화 시 항상 서명 검증)
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 서명 검증용 파서
+    // JwtParser는 불변(immutable)이고 스레드 안전하므로 요청마다 새로 만들지 않고 한 번만 생성해서 재사용한다.
+    private final JwtParser jwtParser;
+
     // 주 생성자 - 스프링이 자동 주입
     @Autowired
     public JwtTokenProvider(
             JwtKeyProperties jwtKeyProperties,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            VerifiedTokenCache verifiedTokenCache
     ) {
         this.jwtKeyProperties = jwtKeyProperties;
+        this.verifiedTokenCache = verifiedTokenCache;
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.jwtParser = Jwts.parser()
+//                .verifyWith(secretKey)
+                // 단일 공개키 대신 JWS 헤더의 kid(없으면 alg) 값으로 현재 키 링에서 검증키를 찾는다.
+                // 키 링은 매 검증마다 새로 조회하므로 키 교체 후에도 파서를 다시 만들 필요가 없다.
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return jwtKeyProperties.getKeyRing()
+                                .findVerificationKey(header.getKeyId(), header.getAlgorithm());
+                    }
+                })
+                .build();
     }
 
     // 테스트용 생성자
@@ -49,13 +71,19 @@ public class JwtTokenProvider {
     }
 
     // 주어진 userId와 만료 기간을 기반으로 JWT 토큰 생성
-    private String createToken(String userId, long expirationMillis, String type) {
+    // sessionId는 refreshToken에만 지정 (null이면 sid 클레임 생략)
+    private String createToken(String userId, long expirationMillis, String type, String sessionId) {
+
+        // 현재 활성 서명키 (키 교체 중에도 kid와 키가 어긋나지 않도록 한 번만 조회)
+        JwtKeyRing.SigningKey signingKey = jwtKeyProperties.getKeyRing().getSigningKey();
 
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()     // 검증 측에서 JWKS의 키를 찾을 수 있도록 kid 기록
                 .subject(userId)        // JWT의 주제(Subject) 설정
 //                .claim("role", role)  // JWT에 추가적인 클레임 설정 (예: 역할)
                 .claim("type", type) // JWT에 토큰 타입 추가 (예: access, refresh)
                 .claim("tokenId", UUID.randomUUID().toString()) // JWT에 고유 토큰 ID 추가 (UUID 사용)
+                .claim("sid", sessionId)    // refreshToken 세션(기기) ID, null이면 클레임이 추가되지 않음
                 .issuedAt(new Date())   // 발행 시간 설정
                 .expiration(Date.from(Instant.now().plusMillis(expirationMillis))) // 만료 시간
 
@@ -69,45 +97,59 @@ public class JwtTokenProvider {
                  */
 
 //                .signWith(secretKey)      // 서명에 사용할 키 설정
-                .signWith(getPrivateKey())  // RSA 개인키로 서명
+                // 개인키 타입에 따라 결정된 알고리즘(RS256, ES256, EdDSA)으로 서명
+                .signWith(signingKey.privateKey(), signingKey.algorithm().getJwsAlgorithm())
                 .compact();         // 최종적으로 JWT 문자열 생성
     }
 
     public String createAccessToken(String userId) {
-        return createToken(userId, accessTokenExpiration, "access");
+        return createToken(userId, accessTokenExpiration, "access", null);
     }
 
-    public String createRefreshToken(String userId) {
-        return createToken(userId, refreshTokenExpiration, "refresh");
+    // 세션(기기)별 refreshToken 생성, 재발급 시에는 같은 sessionId를 유지한다.
+    public String createRefreshToken(String userId, String sessionId) {
+        return createToken(userId, refreshTokenExpiration, "refresh", sessionId);
     }
 
-    // 토큰 유효성 검사
-    public TokenValidationResult validateToken(String token) {
+    // 새 refreshToken 세션 ID 생성 (로그인, 회원가입 시)
+    public String newSessionId() {
+        return UUID.randomUUID().toString();
+    }
+
+    // 토큰을 한 번만 검증하고, 검증 결과와 클레임을 함께 반환
+    // validateToken() 후 getUserId()를 호출하면 RSA 서명 검증이 두 번 일어나므로, 토큰 값이 필요한 곳에서는 이 메서드를 사용한다.
+    // 검증 캐시가 켜져 있으면 이미 검증된 토큰은 서명 검증 없이 캐시에서 반환한다.
+    public ParsedToken parseToken(String token) {
+        return verifiedTokenCache.get(token, this::verify);
+    }
+
+    // 서명 검증 및 클레임 파싱
+    private ParsedToken verify(String token) {
         try {
-            // 토큰 파싱 및 서명 검증
-            Jwts.parser()
-//                    .verifyWith(secretKey)
-                    .verifyWith(getPublicKey())
-                    .build()
-                    .parseSignedClaims(token); // 토큰 파싱 시도, 여기서 유효성 + 만료 검증까지
+            // 토큰 파싱 및 서명 검증, 여기서 유효성 + 만료 검증까지
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
 
             // 여기까지 도달했다면 유효한 토큰
-            return TokenValidationResult.VALID;
+            return ParsedToken.valid(claims);
         } catch (ExpiredJwtException e) {
-            // 토큰이 만료된 경우
-            return TokenValidationResult.EXPIRED;
+            // 토큰이 만료된 경우, JJWT는 서명 검증 후 만료를 확인하므로 클레임은 신뢰할 수 있다
+            return e.getClaims() != null
+                    ? ParsedToken.expired(e.getClaims())
+                    : ParsedToken.failed(TokenValidationResult.EXPIRED);
         } catch (JwtException | IllegalArgumentException e) {
             // 토큰이 유효하지 않거나 파싱 오류가 발생한 경우
-            return TokenValidationResult.INVALID;
+            return ParsedToken.failed(TokenValidationResult.INVALID);
         }
     }
 
+    // 토큰 유효성 검사
+    public TokenValidationResult validateToken(String token) {
+        return parseToken(token).getResult();
+    }
+
+    // 토큰에서 사용자 ID 추출 (유효하지 않은 토큰이면 JwtException 발생)
     public String getUserId(String token) {
-        return Jwts.parser()
-//                .verifyWith(secretKey)
-                .verifyWith(getPublicKey())
-                .build()
-                .parseSignedClaims(token)
+        return jwtParser.parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
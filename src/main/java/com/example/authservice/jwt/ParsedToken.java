@@ -0,0 +1,56 @@
+package com.example.authservice.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 토큰 검증 결과와 파싱된 클레임을 함께 담는 객체
+// 한 번의 서명 검증으로 유효성 판단과 클레임 추출을 모두 처리하기 위해 사용
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParsedToken {
+
+    private final TokenValidationResult result;
+
+    // 검증에 실패한 경우 아래 클레임들은 모두 null (서명은 맞지만 만료된 토큰은 클레임 포함)
+    private final String userId;        // sub
+    private final String type;          // access, refresh
+    private final String tokenId;       // 토큰 고유 ID
+    private final String sessionId;     // sid, refreshToken의 세션(기기) ID (세션 도입 이전 토큰은 null)
+    private final Instant issuedAt;     // iat
+    private final Instant expiresAt;    // exp
+
+    // 서명 검증이 끝난 클레임으로부터 생성
+    static ParsedToken valid(Claims claims) {
+        return of(TokenValidationResult.VALID, claims);
+    }
+
+    // 서명은 검증되었지만 만료된 토큰 (로그아웃 시 어느 세션의 토큰인지 확인용)
+    static ParsedToken expired(Claims claims) {
+        return of(TokenValidationResult.EXPIRED, claims);
+    }
+
+    private static ParsedToken of(TokenValidationResult result, Claims claims) {
+        return new ParsedToken(
+                result,
+                claims.getSubject(),
+                claims.get("type", String.class),
+                claims.get("tokenId", String.class),
+                claims.get("sid", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    // 만료되었거나 유효하지 않은 토큰
+    static ParsedToken failed(TokenValidationResult result) {
+        return new ParsedToken(result, null, null, null, null, null, null);
+    }
+
+    public boolean isValid() {
+        return result == TokenValidationResult.VALID;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.authservice.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.security.Key;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.EdECKey;
+import java.security.interfaces.RSAKey;
+
+// JWT 서명 알고리즘
+// 설정에 알고리즘을 따로 두지 않고, 설정된 키의 타입으로 알고리즘을 결정한다.
+@Getter
+@RequiredArgsConstructor
+public enum SigningAlgorithm {
+
+    RS256("RSA", Jwts.SIG.RS256),       // RSA-2048 이상
+    ES256("EC", Jwts.SIG.ES256),        // EC P-256, RSA 대비 서명 비용이 훨씬 작고 토큰도 짧다
+    EDDSA("Ed25519", Jwts.SIG.EdDSA);   // Ed25519, 서명/검증 모두 가장 빠르다
+
+    // KeyFactory.getInstance()에 사용하는 알고리즘 이름
+    private final String keyFactoryAlgorithm;
+
+    // JJWT 서명 알고리즘
+    private final SignatureAlgorithm jwsAlgorithm;
+
+    // JWS 헤더의 alg 값 (RS256, ES256, EdDSA)
+    public String getId() {
+        return jwsAlgorithm.getId();
+    }
+
+    // 키 타입으로 서명 알고리즘 결정
+    public static SigningAlgorithm fromKey(Key key) {
+        if (key instanceof RSAKey) {
+            return RS256;
+        }
+        if (key instanceof ECKey ecKey) {
+            // P-256 곡선만 허용 (ES384, ES512는 지원하지 않음)
+            if (ecKey.getParams().getCurve().getField().getFieldSize() == 256) {
+                return ES256;
+            }
+            throw new IllegalArgumentException("Only EC P-256 keys are supported for JWT signing");
+        }
+        if (key instanceof EdECKey edKey) {
+            if ("Ed25519".equalsIgnoreCase(edKey.getParams().getName())) {
+                return EDDSA;
+            }
+            throw new IllegalArgumentException("Only Ed25519 keys are supported for EdDSA JWT signing");
+        }
+        throw new IllegalArgumentException("Unsupported JWT key type: " + key.getAlgorithm());
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.authservice.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// 토큰 원문 대신 저장/비교에 사용하는 고정 길이(32바이트) SHA-256 다이제스트
+public final class TokenDigest {
+
+    public static final int LENGTH = 32;
+
+    private TokenDigest() {
+    }
+
+    public static byte[] sha256(String token) {
+        try {
+            // JWT는 Base64URL + '.' 으로만 구성되므로 ASCII 인코딩으로 충분
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.authservice.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// 서명 검증이 끝난 토큰의 캐시 (선택 기능, jwt.verification-cache.enabled)
+// 같은 토큰을 반복 검증할 때 RSA 서명 검증 대신 SHA-256 해시 + 해시맵 조회로 처리한다.
+// 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하고, 엔트리는 토큰의 exp를 넘어서 살아있지 않는다.
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Duration maxTtl;
+
+    // 토큰 다이제스트 -> 검증 결과 (유효한 토큰만 저장), 캐시를 끄면 null
+    private final Cache<ByteBuffer, ParsedToken> cache;
+
+    // userId -> 캐시된 refreshToken 다이제스트 (refreshToken 교체/삭제 시 무효화용)
+    private final ConcurrentHashMap<String, Set<ByteBuffer>> refreshTokenKeysByUser = new ConcurrentHashMap<>();
+
+    // 사용자별 refreshToken 저장/무효화를 직렬화하는 잠금 (userId 해시로 나눈 고정 개수)
+    // 저장 중인 엔트리를 무효화가 놓치지 않도록 인덱스 갱신 + 캐시 저장, 인덱스 제거 + 캐시 무효화를 각각 한 번에 처리한다.
+    private final Object[] userLocks = new Object[64];
+
+    @Autowired
+    public VerifiedTokenCache(
+            @Value("${jwt.verification-cache.enabled:false}") boolean enabled,
+            @Value("${jwt.verification-cache.maximum-size:10000}") long maximumSize,
+            // 키 교체 후 이전 키로 검증된 결과가 남아있을 수 있는 최대 시간
+            @Value("${jwt.verification-cache.max-ttl:5m}") Duration maxTtl,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.maxTtl = maxTtl;
+        for (int i = 0; i < userLocks.length; i++) {
+            userLocks[i] = new Object();
+        }
+
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)       // 크기 초과 시 오래/적게 사용된 엔트리부터 제거
+                .expireAfter(new TokenExpiry())
+                // 크기/만료로 제거될 때 userId 인덱스도 함께 정리 (동기 호출)
+                .evictionListener((ByteBuffer key, ParsedToken value, RemovalCause cause) -> removeFromIndex(key, value))
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.size, cache.evictions 메트릭 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    // 캐시를 사용하지 않는 인스턴스 (벤치마크 등)
+    public static VerifiedTokenCache disabled() {
+        return new VerifiedTokenCache(false, 0, Duration.ZERO, new SimpleMeterRegistry());
+    }
+
+    // 캐시된 검증 결과가 있으면 반환하고, 없으면 verifier로 검증한 뒤 유효한 경우에만 저장
+    public ParsedToken get(String token, Function<String, ParsedToken> verifier) {
+        if (!enabled || token == null) {
+            return verifier.apply(token);
+        }
+
+        ByteBuffer key = digest(token);
+        ParsedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        ParsedToken parsed = verifier.apply(token);
+        if (!parsed.isValid()) {
+            return parsed;
+        }
+
+        if (isRefreshToken(parsed)) {
+            // 인덱스에 먼저 등록한 뒤 저장 (invalidateRefreshTokens와 같은 잠금)
+            synchronized (lockFor(parsed.getUserId())) {
+                refreshTokenKeysByUser
+                        .computeIfAbsent(parsed.getUserId(), userId -> ConcurrentHashMap.newKeySet())
+                        .add(key);
+                cache.put(key, parsed);
+            }
+        } else {
+            cache.put(key, parsed);
+        }
+        return parsed;
+    }
+
+    // 특정 토큰의 캐시 무효화
+    public void invalidate(String token) {
+        if (enabled && token != null) {
+            cache.invalidate(digest(token));
+        }
+    }
+
+    // 사용자의 refreshToken 캐시 무효화 (RedisService에서 refreshToken 교체/삭제 시 호출)
+    public void invalidateRefreshTokens(String userId) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lockFor(userId)) {
+            Set<ByteBuffer> keys = refreshTokenKeysByUser.remove(userId);
+            if (keys != null) {
+                cache.invalidateAll(keys);
+            }
+        }
+    }
+
+    // jwt.* 설정이 바뀌면(키 교체 등) 이전 키로 검증된 결과를 모두 버린다
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (enabled && event.getKeys().stream().anyMatch(key -> key.startsWith("jwt."))) {
+            cache.invalidateAll();
+            refreshTokenKeysByUser.clear();
+        }
+    }
+
+    private void removeFromIndex(ByteBuffer key, ParsedToken value) {
+        if (value != null && isRefreshToken(value)) {
+            refreshTokenKeysByUser.computeIfPresent(value.getUserId(), (userId, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private Object lockFor(String userId) {
+        return userLocks[Math.floorMod(userId.hashCode(), userLocks.length)];
+    }
+
+    private static boolean isRefreshToken(ParsedToken parsed) {
+        return "refresh".equals(parsed.getType()) && parsed.getUserId() != null;
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(TokenDigest.sha256(token));
+    }
+
+    // 엔트리 만료 시점 = min(토큰 exp, 현재 + maxTtl)
+    private class TokenExpiry implements Expiry<ByteBuffer, ParsedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, ParsedToken value, long currentTime) {
+            long ttl = maxTtl.toNanos();
+            if (value.getExpiresAt() != null) {
+                ttl = Math.min(ttl, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+            }
+            return Math.max(ttl, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, ParsedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, ParsedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
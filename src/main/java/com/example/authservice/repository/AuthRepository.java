@@ -1,8 +1,16 @@
 package com.example.authservice.repository;
 
 import com.example.authservice.domain.UserEntity;
+import com.example.authservice.repository.projection.UserCredentials;
+import com.example.authservice.repository.projection.UserIdentity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 // User 엔티티에 대한 DB 접근을 담당하는 리포지토리 인터페이스
@@ -17,10 +25,49 @@ public interface AuthRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByUserId(String userId);
 
     // 해당 이메일을 가진 사용자가 존재하는지 여부 반환
+    @Transactional(readOnly = true)
     boolean existsByEmail(String email);
 
     // 해당 userId를 가진 사용자가 존재하는지 여부 반환
+    // 엔티티를 로딩하지 않고 존재 여부만 확인 (토큰 재발급, 로그아웃)
+    @Transactional(readOnly = true)
     boolean existsByUserId(String userId);
 
+    // 로그인용 프로젝션 조회 (userId, 비밀번호 해시, 회원 유형)
+    // 엔티티 대신 레코드로 받으므로 영속성 컨텍스트 스냅샷, dirty checking이 없고 필요한 컬럼만 조회한다.
+    @Transactional(readOnly = true)
+    @Query("select new com.example.authservice.repository.projection.UserCredentials(u.userId, u.password, u.userType) " +
+            "from UserEntity u where u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    // 식별 정보 프로젝션 조회 (userId, email, 회원 유형)
+    @Transactional(readOnly = true)
+    @Query("select new com.example.authservice.repository.projection.UserIdentity(u.userId, u.email, u.userType) " +
+            "from UserEntity u where u.email = :email")
+    Optional<UserIdentity> findIdentityByEmail(@Param("email") String email);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.example.authservice.repository.projection.UserIdentity(u.userId, u.email, u.userType) " +
+            "from UserEntity u where u.userId = :userId")
+    Optional<UserIdentity> findIdentityByUserId(@Param("userId") String userId);
+
+    // 비밀번호 해시 교체 (로그인 시 해싱 정책 업그레이드)
+    // 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않도록 기존 해시가 같을 때만 변경, 변경된 행 수 반환
+    @Transactional
+    @Modifying
+    @Query("update UserEntity u set u.password = :newPassword where u.userId = :userId and u.password = :oldPassword")
+    int updatePassword(@Param("userId") String userId,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
+
+    // 주어진 userId 중 존재하는 userId만 조회 (where user_id in (...) 한 문장)
+    @Query("select u.userId from UserEntity u where u.userId in :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
+    // 여러 사용자 한 번에 삭제 (delete ... where user_id in (...) 한 문장), 삭제된 행 수 반환
+    @Modifying
+    @Query("delete from UserEntity u where u.userId in :userIds")
+    int deleteAllByUserIdIn(@Param("userIds") Collection<String> userIds);
+
 //    Optional<UserEntity> findByUserIdAndDeletedFalse(String userId);
 }
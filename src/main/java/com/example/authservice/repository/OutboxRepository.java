@@ -0,0 +1,60 @@
+package com.example.authservice.repository;
+
+import com.example.authservice.domain.OutboxEventEntity;
+import com.example.authservice.domain.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+// 아웃박스 이벤트 DB 접근
+public interface OutboxRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    // 점유되지 않은 발행 대기 이벤트를 오래된 순서로 조회하면서 행 잠금 (status, id 인덱스)
+    // lock.timeout = -2 는 Hibernate의 SKIP LOCKED, 여러 인스턴스의 릴레이가 같은 행을 중복 발행하지 않고 나눠서 처리한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEventEntity o where o.status = :status"
+            + " and (o.claimedUntil is null or o.claimedUntil < :now) order by o.id")
+    List<OutboxEventEntity> findClaimableForUpdate(@Param("status") OutboxStatus status,
+                                                   @Param("now") Instant now,
+                                                   Pageable pageable);
+
+    // 발행할 이벤트 점유 (점유 만료 시각 기록 + 시도 횟수 증가)
+    @Modifying
+    @Query("update OutboxEventEntity o set o.claimedUntil = :until, o.attempts = o.attempts + 1 where o.id in :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("until") Instant until);
+
+    // 발행 완료 표시 (한 번의 update)
+    @Modifying
+    @Query("update OutboxEventEntity o set o.status = :status, o.sentAt = :sentAt, o.claimedUntil = null where o.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") OutboxStatus status, @Param("sentAt") Instant sentAt);
+
+    // 발행 실패, 최대 시도 횟수에 도달한 이벤트는 FAILED로 전환
+    @Modifying
+    @Query("update OutboxEventEntity o set o.status = :status, o.claimedUntil = null"
+            + " where o.id in :ids and o.attempts >= :maxAttempts")
+    int parkExhausted(@Param("ids") Collection<Long> ids,
+                      @Param("status") OutboxStatus status,
+                      @Param("maxAttempts") int maxAttempts);
+
+    // 발행 실패, 점유를 풀어 다음 주기에 재시도
+    @Modifying
+    @Query("update OutboxEventEntity o set o.claimedUntil = null where o.id in :ids")
+    int release(@Param("ids") Collection<Long> ids);
+
+    // 발행할 수 없는 이벤트 (알 수 없는 종류, 역직렬화 실패)
+    @Modifying
+    @Query("update OutboxEventEntity o set o.status = :status, o.claimedUntil = null where o.id in :ids")
+    int park(@Param("ids") Collection<Long> ids, @Param("status") OutboxStatus status);
+
+    // 보관 기간이 지난 발행 완료 이벤트 삭제
+    @Modifying
+    @Query("delete from OutboxEventEntity o where o.sentAt < :before")
+    int deleteSentBefore(@Param("before") Instant before);
+}
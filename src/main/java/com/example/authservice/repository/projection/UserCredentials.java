@@ -0,0 +1,7 @@
+package com.example.authservice.repository.projection;
+
+import com.example.authservice.domain.UserType;
+
+// 로그인 검증에 필요한 컬럼만 담은 조회 전용 프로젝션 (영속성 컨텍스트에서 관리되지 않음)
+public record UserCredentials(String userId, String password, UserType userType) {
+}
@@ -0,0 +1,7 @@
+package com.example.authservice.repository.projection;
+
+import com.example.authservice.domain.UserType;
+
+// 사용자 식별 정보만 담은 조회 전용 프로젝션 (소셜 로그인 회원 확인 등)
+public record UserIdentity(String userId, String email, UserType userType) {
+}
@@ -1,24 +1,38 @@
 package com.example.authservice.service;
 
+import com.example.authservice.config.ReplicaRouting;
 import com.example.authservice.domain.UserEntity;
 import com.example.authservice.domain.UserType;
 import com.example.authservice.dto.*;
+import com.example.authservice.event.UserChangeBroadcaster;
+import com.example.authservice.event.UserChangedEvent;
 import com.example.authservice.event.UserCreatedEvent;
+import com.example.authservice.event.UserEventOutbox;
 import com.example.authservice.event.UserEventPublisher;
 import com.example.authservice.exception.auth.InvalidCredentialsException;
 import com.example.authservice.exception.auth.SocialAccountLoginOnlyException;
+import com.example.authservice.exception.session.RefreshSessionNotFoundException;
 import com.example.authservice.exception.token.InvalidRefreshTokenException;
 import com.example.authservice.exception.token.TokenExpiredException;
 import com.example.authservice.exception.user.*;
 import com.example.authservice.jwt.JwtTokenProvider;
+import com.example.authservice.jwt.ParsedToken;
 import com.example.authservice.jwt.TokenValidationResult;
 import com.example.authservice.repository.AuthRepository;
+import com.example.authservice.repository.projection.UserCredentials;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -26,41 +40,67 @@ public class AuthService {
 
     private final AuthRepository authRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    // 비밀번호 해싱은 요청 스레드 대신 전용 실행기에서 처리
+    private final PasswordHashingService passwordHashingService;
+    private final SignupValidator signupValidator;
+    private final BreachedPasswordChecker breachedPasswordChecker;
     private final RedisService redisService;
+    private final UserLookupCache userLookupCache;
+    private final UserAvailabilityService userAvailabilityService;
+    private final UserEventOutbox userEventOutbox;
     private final UserEventPublisher userEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final UserChangeBroadcaster userChangeBroadcaster;
+    private final ReplicaRouting replicaRouting;
+
+    // refreshToken 교체 기준, 발급된 지 이 시간이 지나지 않은 refreshToken으로 재발급하면 accessToken만 새로 발급
+    // 0이면 재발급할 때마다 refreshToken도 교체
+    @Value("${jwt.refresh-token-rotation-threshold:0s}")
+    private Duration refreshTokenRotationThreshold;
+
+    // refreshToken 만료 시간 (ms), 교체 기준 검증용
+    @Value("${jwt.refresh-token-expiration}")
+    private long refreshTokenExpiration;
+
+    // 회원가입 이벤트를 아웃박스로 발행할지 여부 (false면 UserEventPublisher로 바로 발행)
+    @Value("${outbox.enabled:true}")
+    private boolean outboxEnabled;
+
+    // 교체 기준이 만료 시간 이상이면 refreshToken이 교체되지 않고 만료되어 재로그인이 필요하므로 기동 실패
+    @PostConstruct
+    void validateRefreshTokenRotationThreshold() {
+        if (refreshTokenRotationThreshold.isNegative()
+                || refreshTokenRotationThreshold.toMillis() >= refreshTokenExpiration) {
+            throw new IllegalStateException("jwt.refresh-token-rotation-threshold (" + refreshTokenRotationThreshold
+                    + ") must be between 0 and jwt.refresh-token-expiration (" + refreshTokenExpiration + "ms)");
+        }
+    }
 
     // 일반 회원가입
     public SignupResponseDto createUser(SignupRequestDto request) {
 
-        // 1. userId 형식 검사: 영문/숫자 1~16자
-        if (!request.getUserId().matches("^[a-zA-Z0-9]{1,16}$")) {
-            throw new InvalidUserIdFormatException();
-        }
-        // 예약어 검사
-        List<String> reservedIds = List.of("admin", "root", "system");
-        if (reservedIds.contains(request.getUserId().toLowerCase())) {
-            throw new ReservedUserIdException();
-        }
+        // 1. userId 검사: 영문/숫자 1~16자 + 예약어/금지어
+        signupValidator.validateUserId(request.getUserId());
 
-        // 2. 비밀번호 검사: 최소 8자 + 특수문자 포함
-        if (request.getPassword().length() < 8 ||
-                !request.getPassword().matches(".*[!@#$%^&*()\\-_=+{};:,<.>].*")) {
-            throw new WeakPasswordException();
+        // 2. 비밀번호 검사: 최소 8자 + 특수문자 포함, 유출된 비밀번호가 아닐 것
+        signupValidator.validatePassword(request.getPassword());
+        if (breachedPasswordChecker.isBreached(request.getPassword())) {
+            throw new BreachedPasswordException();
         }
 
-        // 3. email 중복 체크
-        if (authRepository.existsByEmail(request.getEmail())) {
+        // 3. email, userId 중복 사전 검사: 이미 사용 중인 값이면 비싼 해싱 전에 거부
+        // Bloom 필터에 없으면 쿼리 없이 통과하고, 있을 수도 있을 때만 existsBy로 조회한다.
+        // 사전 검사는 빠른 실패용이고, 최종 판단은 저장 시 DB 유니크 제약 (saveWithCreatedEvent)
+        // 동시에 같은 값으로 가입해도 하나만 성공한다.
+        if (!userAvailabilityService.isEmailAvailable(request.getEmail())) {
             throw new EmailAlreadyExistsException();
         }
-
-        // 4. userId 중복 체크
-        if (authRepository.existsByUserId(request.getUserId())) {
+        if (!userAvailabilityService.isUserIdAvailable(request.getUserId())) {
             throw new UserIdAlreadyExistsException();
         }
 
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // 비밀번호 암호화 (비용이 큰 작업이므로 DB 없이 검사 가능한 항목을 모두 통과한 뒤 실행)
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
 
         // @Builder 패턴을 사용하여 UserEntity 객체 생성
         UserEntity user = UserEntity.builder()
@@ -73,22 +113,16 @@ public class AuthService {
         // TODO: 트랜잭션 분리 또는 보상 처리를 고려해야 함 (토큰 저장 실패 시 DB 롤백 불가)
         // save()이후에 에러/예외 발생 시 데이터는 저장됬으나 요청은 실패하기때문에 해결방법이 필요할듯함
         // ex) 만약 이후에 redis에 토큰 저장 중 에러가 발생하면, DB에는 회원 정보가 저장되지만 토큰은 저장되지 않고 요청이 실패하게 된다.
-        UserEntity saved = authRepository.save(user);
-
-        // user-service로 일반 회원가입 이벤트 전송
-        userEventPublisher.sendUserCreatedEvent(
-                UserCreatedEvent.builder()
-                        .userId(saved.getUserId())
-                        .email(saved.getEmail())
-                        .profileName(request.getProfileName())
-                        .bio(request.getBio())
-                        .build()
-        );
+        // 사용자 저장과 user-service로 보낼 회원가입 이벤트(아웃박스)를 한 트랜잭션으로 기록
+        // 이벤트 발행은 OutboxRelay가 백그라운드에서 처리하므로 브로커 상태와 무관하게 응답한다.
+        saveWithCreatedEvent(user, request.getProfileName(), request.getBio());
 
+        // 새 세션(기기)으로 토큰 발급
+        String sessionId = jwtTokenProvider.newSessionId();
         String accessToken = jwtTokenProvider.createAccessToken(user.getUserId());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId(), sessionId);
 
-        redisService.storeRefreshToken(user.getUserId(), refreshToken);
+        redisService.storeRefreshToken(user.getUserId(), sessionId, refreshToken);
 
         return new SignupResponseDto(accessToken, refreshToken);
     }
@@ -96,25 +130,10 @@ public class AuthService {
     // 소셜 회원가입
     public SignupResponseDto createSocialUser(SocialSignupRequestDto request) {
 
-        // 1. userId 형식 검사: 영문/숫자 1~16자
-        if (!request.getUserId().matches("^[a-zA-Z0-9]{1,16}$")) {
-            throw new InvalidUserIdFormatException();
-        }
-        // 예약어 검사
-        List<String> reservedIds = List.of("admin", "root", "system");
-        if (reservedIds.contains(request.getUserId().toLowerCase())) {
-            throw new ReservedUserIdException();
-        }
+        // 1. userId 검사: 영문/숫자 1~16자 + 예약어/금지어
+        signupValidator.validateUserId(request.getUserId());
 
-        // 2. email 중복 체크
-        if (authRepository.existsByEmail(request.getEmail())) {
-            throw new EmailAlreadyExistsException();
-        }
-
-        // 3. userId 중복 체크
-        if (authRepository.existsByUserId(request.getUserId())) {
-            throw new UserIdAlreadyExistsException();
-        }
+        // email, userId 중복은 저장 시 DB 유니크 제약으로 검사 (saveWithCreatedEvent)
 
         UserEntity user = UserEntity.builder()
                 .userId(request.getUserId())
@@ -123,22 +142,13 @@ public class AuthService {
                 .build();
 
         // TODO: 일반 회원가입과 마찬가지로 트랜잭션 분리 또는 보상 처리를 고려해야 함
-        UserEntity saved = authRepository.save(user);
-
-        // user-service로 소셜 회원가입 이벤트 전송
-        userEventPublisher.sendUserCreatedEvent(
-                UserCreatedEvent.builder()
-                        .userId(saved.getUserId())
-                        .email(saved.getEmail())
-                        .profileName(request.getProfileName())
-                        .bio(request.getBio())
-                        .build()
-        );
+        saveWithCreatedEvent(user, request.getProfileName(), request.getBio());
 
+        String sessionId = jwtTokenProvider.newSessionId();
         String accessToken = jwtTokenProvider.createAccessToken(user.getUserId());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId(), sessionId);
 
-        redisService.storeRefreshToken(request.getUserId(), refreshToken);
+        redisService.storeRefreshToken(request.getUserId(), sessionId, refreshToken);
 
         return new SignupResponseDto(accessToken, refreshToken);
     }
@@ -146,72 +156,226 @@ public class AuthService {
     // 일반 로그인
     public LoginResponseDto authenticateUser(LoginRequestDto request) {
 
-        // 가입여부 확인, 이메일로 사용자 조회(없으면 예외 발생)
-        UserEntity user = authRepository.findByEmail(request.getEmail()).orElseThrow(
-                () -> new InvalidCredentialsException()
-        );
-        // findByEmail()은 Optional로 감싸진 UserEntity를 반환하는데, 여기서는 UserEntity 타입으로 받는 이유는
+        // 가입여부 확인, 이메일로 로그인에 필요한 정보만 조회(없으면 예외 발생)
+        // 엔티티 대신 프로젝션(레코드)으로 조회하므로 영속성 컨텍스트에 올라가지 않는다.
+        // 레플리카에서 찾지 못하면 복제 지연일 수 있으므로 primary에서 한 번 더 조회 (가입 직후 로그인, 레플리카 라우팅을 사용할 때만)
+        UserCredentials user = authRepository.findCredentialsByEmail(request.getEmail())
+                .or(() -> replicaRouting.isEnabled()
+                        ? replicaRouting.onPrimary(() -> authRepository.findCredentialsByEmail(request.getEmail()))
+                        : Optional.empty())
+                .orElseThrow(() -> new InvalidCredentialsException());
+        // findCredentialsByEmail()은 Optional로 감싸진 UserCredentials를 반환하는데, 여기서는 UserCredentials 타입으로 받는 이유는
         // orElseThrow()가 값이 있으면 꺼내고, 없으면 예외를 던지기 때문이다.
-        //  즉, UserEneity user = authRepository.findByEmail(email) 은 컴파일 오류를 발생시킨다.
 
         // 일반 회원만 로그인 허용(소셜 계정은 로그인 불가)
-        if (user.getUserType() != UserType.GENERAL) {
+        if (user.userType() != UserType.GENERAL) {
             throw new SocialAccountLoginOnlyException();
         }
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.password())) {
             throw new InvalidCredentialsException();
         }
 
-        String accessToken = jwtTokenProvider.createAccessToken(user.getUserId());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId());
+        // 저장된 해시가 현재 해싱 정책보다 약하면 (작업량 상향, 알고리즘 변경, 알고리즘 ID 없는 기존 해시)
+        // 응답을 기다리게 하지 않고 백그라운드에서 다시 해싱해 교체
+        if (passwordHashingService.needsUpgrade(user.password())) {
+            passwordHashingService.encodeInBackground(request.getPassword(),
+                    newPassword -> authRepository.updatePassword(user.userId(), user.password(), newPassword));
+        }
+
+        // 로그인마다 새 세션을 만들어 다른 기기의 세션은 유지 (세션 수 상한 초과 시 가장 오래된 세션 제거)
+        String sessionId = jwtTokenProvider.newSessionId();
+        String accessToken = jwtTokenProvider.createAccessToken(user.userId());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.userId(), sessionId);
 
-        redisService.storeRefreshToken(user.getUserId(), refreshToken);
+        redisService.storeRefreshToken(user.userId(), sessionId, refreshToken);
 
         return new LoginResponseDto(accessToken, refreshToken);
     }
 
+    // 사용자 저장 + 회원가입 이벤트 아웃박스 기록 (같은 트랜잭션)
+    // 비밀번호 해싱 등 앞의 작업 동안 DB 커넥션을 잡고 있지 않도록 이 부분만 트랜잭션으로 묶는다.
+    // 아웃박스를 끄면 저장 후 바로 발행 (비동기 발행 모드에서는 대기열에 넣고 반환)
+    // email/userId 유니크 제약 위반은 EmailAlreadyExistsException, UserIdAlreadyExistsException으로 변환
+    // 저장 후 모든 레플리카에 가입을 알린다. (사용 가능 여부 확인용 필터 갱신)
+    private void saveWithCreatedEvent(UserEntity user, String profileName, String bio) {
+        UserEntity saved;
+        try {
+            if (!outboxEnabled) {
+                // 바로 insert 해서 제약 위반을 여기서 확인
+                saved = authRepository.saveAndFlush(user);
+                userEventPublisher.sendUserCreatedEvent(toCreatedEvent(saved, profileName, bio));
+            } else {
+                saved = transactionTemplate.execute(status -> {
+                    UserEntity entity = authRepository.saveAndFlush(user);
+                    userEventOutbox.addUserCreatedEvent(toCreatedEvent(entity, profileName, bio));
+                    return entity;
+                });
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateException(e, user);
+        }
+
+        userChangeBroadcaster.broadcast(UserChangedEvent.created(List.of(saved.getUserId()), List.of(saved.getEmail())));
+    }
+
+    // 위반된 제약 이름으로 어떤 값이 중복인지 판단
+    // 이름을 알 수 없는 경우(제약 이름이 다른 기존 DB 등)에만 조회로 확인
+    private RuntimeException toDuplicateException(DataIntegrityViolationException e, UserEntity user) {
+
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        String detail = (constraintName != null ? constraintName : String.valueOf(e.getMostSpecificCause().getMessage()))
+                .toLowerCase();
+
+        if (detail.contains(UserEntity.EMAIL_UNIQUE_CONSTRAINT)) {
+            return new EmailAlreadyExistsException();
+        }
+        if (detail.contains(UserEntity.USER_ID_UNIQUE_CONSTRAINT)) {
+            return new UserIdAlreadyExistsException();
+        }
+
+        // 방금 primary에서 충돌한 값이므로 primary에서 조회
+        if (replicaRouting.onPrimary(() -> authRepository.existsByEmail(user.getEmail()))) {
+            return new EmailAlreadyExistsException();
+        }
+        if (replicaRouting.onPrimary(() -> authRepository.existsByUserId(user.getUserId()))) {
+            return new UserIdAlreadyExistsException();
+        }
+        return e;
+    }
+
+    private UserCreatedEvent toCreatedEvent(UserEntity saved, String profileName, String bio) {
+        return UserCreatedEvent.builder()
+                .userId(saved.getUserId())
+                .email(saved.getEmail())
+                .profileName(profileName)
+                .bio(bio)
+                .build();
+    }
+
     // 로그아웃
-    public void logout(String userId) {
+    // refreshToken 쿠키가 없으면 모든 세션, 있으면 그 토큰의 세션(기기)만 삭제
+    public void logout(String userId, String refreshToken) {
+
+        // 사용자 존재 여부 확인(없으면 예외 발생), 대부분 캐시에서 확인되어 DB를 거치지 않음
+        if (!userLookupCache.existsByUserId(userId)) {
+            throw new UserNotFoundException();
+        }
 
-        // 사용자 ID로 사용자 조회(없으면 예외 발생)
-        authRepository.findByUserId(userId)
-                .orElseThrow(() -> new UserNotFoundException());
+        // refreshToken 쿠키가 없으면 모든 세션(기기) 로그아웃
+        if (refreshToken == null) {
+            redisService.deleteRefreshSessions(userId);
+            return;
+        }
 
-        redisService.deleteRefreshToken(userId);
+        // 쿠키가 있으면 그 토큰의 세션만 로그아웃 (만료된 토큰도 세션 ID는 확인 가능)
+        // 위조되었거나 다른 사용자의 토큰이면 어떤 세션도 지우지 않는다.
+        ParsedToken parsed = parseOwnRefreshToken(userId, refreshToken);
+        if (parsed == null) {
+            return;
+        }
+        if (parsed.getSessionId() != null) {
+            redisService.deleteRefreshSession(userId, parsed.getSessionId());
+        } else {
+            // 세션 도입 이전 토큰
+            redisService.deleteLegacyRefreshToken(userId);
+        }
+    }
+
+    // 로그인된 세션(기기) 목록
+    public List<SessionResponseDto> getSessions(String userId, String refreshToken) {
+
+        String currentSessionId = findSessionId(userId, refreshToken);
+
+        return redisService.getRefreshSessions(userId).entrySet().stream()
+                .map(session -> new SessionResponseDto(
+                        session.getKey(),
+                        session.getValue(),
+                        session.getKey().equals(currentSessionId)))
+                .toList();
+    }
+
+    // 특정 세션(기기) 로그아웃
+    public void revokeSession(String userId, String sessionId) {
+
+        if (!redisService.deleteRefreshSession(userId, sessionId)) {
+            throw new RefreshSessionNotFoundException();
+        }
+    }
+
+    // 요청한 사용자의 refreshToken이면 세션 ID 반환 (없거나 유효하지 않으면 null)
+    private String findSessionId(String userId, String refreshToken) {
+        ParsedToken parsed = parseOwnRefreshToken(userId, refreshToken);
+        return parsed != null ? parsed.getSessionId() : null;
+    }
+
+    // 서명이 맞는(만료 여부 무관) userId의 refreshToken이면 파싱 결과, 아니면 null
+    private ParsedToken parseOwnRefreshToken(String userId, String refreshToken) {
+
+        if (refreshToken == null) {
+            return null;
+        }
+        ParsedToken parsed = jwtTokenProvider.parseToken(refreshToken);
+        if (parsed.getResult() == TokenValidationResult.INVALID
+                || !userId.equals(parsed.getUserId())
+                || !"refresh".equals(parsed.getType())) {
+            return null;
+        }
+        return parsed;
     }
 
     // Access/Refresh Token 재발급
+    // refreshToken이 발급된 지 refreshTokenRotationThreshold가 지나지 않았으면 accessToken만 발급하고 refreshToken은 null로 반환
     public TokenResponseDto reissueTokens(String refreshToken) {
 
-        // refreshToken 검증
-        TokenValidationResult result = jwtTokenProvider.validateToken(refreshToken);
-        switch (result) {
+        // refreshToken 검증 및 클레임 추출 (서명 검증은 한 번만 수행)
+        ParsedToken parsed = jwtTokenProvider.parseToken(refreshToken);
+        switch (parsed.getResult()) {
             case EXPIRED -> throw new TokenExpiredException();
             case INVALID -> throw new InvalidRefreshTokenException();
         }
 
         // refreshToken에서 사용자 ID 추출
-        String userId = jwtTokenProvider.getUserId(refreshToken);
+        String userId = parsed.getUserId();
 
-        // 사용자 ID로 사용자 조회(없으면 예외 발생)
-        authRepository.findByUserId(userId)
-                .orElseThrow(() -> new UserNotFoundException());
+        // 사용자 존재 여부 확인(없으면 예외 발생), 대부분 캐시에서 확인되어 DB를 거치지 않음
+        if (!userLookupCache.existsByUserId(userId)) {
+            throw new UserNotFoundException();
+        }
 
-        // Redis에 저장된 refreshToken과 비교
-        if (!redisService.isRefreshTokenValid(userId, refreshToken)) {
-            throw new InvalidRefreshTokenException();
+        // 아직 교체할 때가 되지 않은 refreshToken: 세션에 저장된 토큰과 같은지만 확인하고 accessToken만 발급
+        // (서명 한 번 + Redis 조회 한 번, 로그아웃/교체된 토큰은 여기서 거부된다)
+        // 세션 도입 이전 토큰은 세션으로 전환하기 위해 항상 교체
+        if (parsed.getSessionId() != null && !isRotationDue(parsed)) {
+            if (!redisService.isRefreshTokenValid(userId, parsed.getSessionId(), refreshToken)) {
+                throw new InvalidRefreshTokenException();
+            }
+            return new TokenResponseDto(jwtTokenProvider.createAccessToken(userId), null);
         }
 
+        // 같은 세션(기기)을 유지, 세션 도입 이전 토큰은 새 세션으로 전환
+        String sessionId = parsed.getSessionId() != null ? parsed.getSessionId() : jwtTokenProvider.newSessionId();
+
         String newAccessToken = jwtTokenProvider.createAccessToken(userId);
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(userId);
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(userId, sessionId);
 
-        // Redis에 새로운 refreshToken 저장(기존 토큰은 덮어씌워짐)
-        redisService.storeRefreshToken(userId, newRefreshToken);
+        // Redis에 저장된 세션의 refreshToken과 비교 후 새로운 refreshToken으로 교체 (한 번의 왕복으로 원자적으로 처리)
+        // 같은 refreshToken으로 동시에 재발급을 요청하면 하나만 성공한다.
+        if (!redisService.rotateRefreshToken(userId, parsed.getSessionId(), refreshToken, sessionId, newRefreshToken)) {
+            throw new InvalidRefreshTokenException();
+        }
 
         return new TokenResponseDto(newAccessToken, newRefreshToken);
     }
 
+    // refreshToken을 교체할 때가 되었는지 여부 (발급 시각을 알 수 없으면 교체)
+    private boolean isRotationDue(ParsedToken parsed) {
+        return parsed.getIssuedAt() == null
+                || !Instant.now().isBefore(parsed.getIssuedAt().plus(refreshTokenRotationThreshold));
+    }
+
 
 }
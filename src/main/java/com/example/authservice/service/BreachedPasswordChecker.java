@@ -0,0 +1,250 @@
+package com.example.authservice.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.crypto.digests.MD4Digest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+// 유출된 비밀번호 검사 (선택 기능, breached-password.enabled)
+// 유출 비밀번호 해시(SHA-1 또는 NTLM)를 오름차순으로 정렬해 고정 길이로 이어 붙인 로컬 파일을 메모리 매핑하고
+// 비밀번호 해시를 보간 탐색 + 이진 탐색으로 찾는다. (외부 호출 없음, 힙은 거의 사용하지 않음)
+//  - 수억 건(SHA-1 기준 수 GB) 파일도 필요한 페이지만 OS 페이지 캐시로 읽힌다.
+//  - 파일의 수정 시각/크기가 바뀌면 재시작 없이 다시 매핑한다.
+//    파일은 같은 위치에 덮어쓰지 말고 새 파일을 만든 뒤 이름을 바꿔(rename) 교체해야 한다. (기존 매핑은 이전 파일을 계속 읽는다)
+//  - 파일이 없거나 형식이 맞지 않으면 검사를 건너뛴다. (가입을 막지 않음)
+@Slf4j
+@Component
+public class BreachedPasswordChecker {
+
+    // 해시 알고리즘별 레코드 길이
+    public enum HashAlgorithm {
+        SHA1(20),
+        NTLM(16);
+
+        private final int length;
+
+        HashAlgorithm(int length) {
+            this.length = length;
+        }
+    }
+
+    // 보간 탐색 최대 단계, 이후에는 이진 탐색 (해시 값은 고르게 분포하므로 대부분 몇 단계 안에 범위가 좁혀진다)
+    private static final int INTERPOLATION_STEPS = 4;
+
+    private final boolean enabled;
+    private final Path path;
+    private final HashAlgorithm algorithm;
+    private final Timer lookupTimer;
+
+    // 현재 매핑된 파일 (교체 시 통째로 바꾼다)
+    private volatile HashFile hashFile;
+
+    public BreachedPasswordChecker(
+            @Value("${breached-password.enabled:false}") boolean enabled,
+            // 정렬된 해시 파일 경로
+            @Value("${breached-password.file:}") String file,
+            @Value("${breached-password.hash-algorithm:SHA1}") HashAlgorithm algorithm,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled && !file.isBlank();
+        this.path = file.isBlank() ? null : Path.of(file);
+        this.algorithm = algorithm;
+
+        // breached-password.lookup, breached-password.records
+        this.lookupTimer = Timer.builder("breached-password.lookup")
+                .description("Time to look up a password hash in the breached password file")
+                .register(meterRegistry);
+        Gauge.builder("breached-password.records", this, checker -> {
+                    HashFile current = checker.hashFile;
+                    return current != null ? current.records() : 0;
+                })
+                .register(meterRegistry);
+
+        if (this.enabled) {
+            reload();
+        }
+    }
+
+    // 비밀번호가 유출 목록에 있는지 여부 (기능을 끄거나 파일을 읽지 못한 경우 false)
+    public boolean isBreached(String rawPassword) {
+        HashFile current = hashFile;
+        if (current == null || rawPassword == null) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            return current.contains(hash(rawPassword));
+        } finally {
+            lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 파일이 바뀌었으면 다시 매핑 (기본 1분마다 확인)
+    @Scheduled(fixedDelayString = "${breached-password.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (!enabled) {
+            return;
+        }
+
+        HashFile current = hashFile;
+        try {
+            if (current == null
+                    || Files.getLastModifiedTime(path).toMillis() != current.lastModified()
+                    || Files.size(path) != current.size()) {
+                reload();
+            }
+        } catch (IOException e) {
+            // 파일이 잠시 없는 경우(교체 중 등) 기존 매핑을 계속 사용
+            log.warn("Failed to check breached password file {}", path, e);
+        }
+    }
+
+    private synchronized void reload() {
+        try {
+            HashFile loaded = HashFile.map(path, algorithm.length);
+            hashFile = loaded;
+            log.info("Mapped breached password file {} ({} {} hashes)", path, loaded.records(), algorithm);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Failed to map breached password file {}", path, e);
+        }
+    }
+
+    private byte[] hash(String rawPassword) {
+        if (algorithm == HashAlgorithm.NTLM) {
+            // NTLM = MD4(UTF-16LE 비밀번호)
+            byte[] input = rawPassword.getBytes(StandardCharsets.UTF_16LE);
+            MD4Digest digest = new MD4Digest();
+            digest.update(input, 0, input.length);
+            byte[] output = new byte[digest.getDigestSize()];
+            digest.doFinal(output, 0);
+            return output;
+        }
+
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+
+    // 메모리 매핑된 정렬 해시 파일
+    // MappedByteBuffer 하나는 2GB까지만 매핑할 수 있으므로 레코드 경계에 맞춘 1GB 이하 조각으로 나눠 매핑한다.
+    private record HashFile(MappedByteBuffer[] chunks, int recordLength, int recordsPerChunk,
+                            long records, long lastModified, long size) {
+
+        private static final int MAX_CHUNK_BYTES = 1 << 30;
+
+        static HashFile map(Path path, int recordLength) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size % recordLength != 0) {
+                    throw new IllegalStateException("File size " + size + " is not a multiple of " + recordLength);
+                }
+
+                long records = size / recordLength;
+                int recordsPerChunk = MAX_CHUNK_BYTES / recordLength;
+                int chunkCount = (int) ((records + recordsPerChunk - 1) / recordsPerChunk);
+
+                // 매핑은 채널을 닫은 뒤에도 유지된다
+                MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+                for (int i = 0; i < chunkCount; i++) {
+                    long offset = (long) i * recordsPerChunk * recordLength;
+                    chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                            Math.min((long) recordsPerChunk * recordLength, size - offset));
+                }
+
+                return new HashFile(chunks, recordLength, recordsPerChunk, records,
+                        Files.getLastModifiedTime(path).toMillis(), size);
+            }
+        }
+
+        boolean contains(byte[] target) {
+            long low = 0;
+            long high = records - 1;
+            long targetKey = prefix(target);
+
+            // 보간 탐색: 해시 앞 8바이트 값의 비율로 위치를 추정
+            for (int step = 0; step < INTERPOLATION_STEPS && low < high; step++) {
+                long lowKey = keyAt(low);
+                long highKey = keyAt(high);
+                if (Long.compareUnsigned(targetKey, lowKey) < 0 || Long.compareUnsigned(targetKey, highKey) > 0) {
+                    return false;
+                }
+
+                double fraction = unsignedToDouble(targetKey - lowKey) / Math.max(1.0, unsignedToDouble(highKey - lowKey));
+                long mid = Math.min(high, low + (long) (fraction * (high - low)));
+
+                int cmp = compareAt(mid, target);
+                if (cmp == 0) {
+                    return true;
+                }
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            // 이진 탐색
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                int cmp = compareAt(mid, target);
+                if (cmp == 0) {
+                    return true;
+                }
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return false;
+        }
+
+        // index 번째 레코드와 target 비교 (부호 없는 바이트 순서), 바이트 배열을 만들지 않고 버퍼에서 바로 읽는다
+        private int compareAt(long index, byte[] target) {
+            MappedByteBuffer chunk = chunks[(int) (index / recordsPerChunk)];
+            int offset = (int) (index % recordsPerChunk) * recordLength;
+            for (int i = 0; i < recordLength; i++) {
+                int cmp = Integer.compare(chunk.get(offset + i) & 0xFF, target[i] & 0xFF);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        }
+
+        // index 번째 레코드의 앞 8바이트 (빅 엔디언)
+        private long keyAt(long index) {
+            MappedByteBuffer chunk = chunks[(int) (index / recordsPerChunk)];
+            return chunk.getLong((int) (index % recordsPerChunk) * recordLength);
+        }
+
+        private static long prefix(byte[] hash) {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (hash[i] & 0xFF);
+            }
+            return value;
+        }
+
+        private static double unsignedToDouble(long value) {
+            return value >= 0 ? value : (double) (value >>> 1) * 2.0;
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.authservice.service;
 
 import com.example.authservice.domain.UserEntity;
+import com.example.authservice.dto.BatchDeleteResponseDto;
+import com.example.authservice.event.UserChangeBroadcaster;
+import com.example.authservice.event.UserChangedEvent;
 import com.example.authservice.exception.user.UserNotFoundException;
 import com.example.authservice.repository.AuthRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -13,6 +20,12 @@ public class InternalAuthService {
 
     private final AuthRepository authRepository;
     private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+    private final UserChangeBroadcaster userChangeBroadcaster;
+
+    // 일괄 삭제 시 한 번에 처리할 userId 수 (in 절 크기, 트랜잭션 크기)
+    @Value("${internal.batch-delete.chunk-size:500}")
+    private int batchDeleteChunkSize;
 
     // 회원 탈퇴
     @Transactional
@@ -37,7 +50,62 @@ public class InternalAuthService {
         // DB에서 사용자 삭제
         authRepository.delete(user);
 
-        // Redis에서 refreshToken 삭제
-        redisService.deleteRefreshToken(userId);
+        // Redis에서 모든 refreshToken 세션 삭제
+        redisService.deleteRefreshSessions(userId);
+
+        // 모든 레플리카의 사용자 조회 캐시에서 제거 (커밋 후)
+        userChangeBroadcaster.broadcast(UserChangedEvent.deleted(List.of(userId)));
+    }
+
+    // 여러 사용자 일괄 탈퇴 (회원 탈퇴 이벤트 배치)
+    // DB 삭제 한 문장 + Redis 삭제 한 번, 없는 사용자는 무시하고 실제로 삭제된 행 수 반환
+    // DB 삭제를 먼저 커밋한 뒤 Redis 세션을 삭제한다. (롤백되면 세션은 그대로 남음)
+    public int deleteUsers(Collection<String> userIds) {
+
+        Integer deleted = transactionTemplate.execute(status -> authRepository.deleteAllByUserIdIn(userIds));
+
+        redisService.deleteRefreshSessions(userIds);
+        userChangeBroadcaster.broadcast(UserChangedEvent.deleted(List.copyOf(userIds)));
+        return deleted != null ? deleted : 0;
+    }
+
+    // 일괄 회원 삭제 (내부 API), userId별 결과 반환
+    // chunk-size 단위로 나눠 청크마다 짧은 트랜잭션에서 조회 + 삭제를 한 문장씩 실행하고,
+    // 커밋 후 삭제된 사용자의 refreshToken 키를 UNLINK 한 번으로 제거한다.
+    // 요청 전체를 하나의 트랜잭션으로 묶지 않으므로 대량 삭제 중에도 커넥션과 행 잠금을 오래 잡지 않는다.
+    public BatchDeleteResponseDto batchDeleteUsers(List<String> userIds) {
+
+        // 중복 제거 (요청 순서 유지)
+        List<String> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Set<String> deletedIds = new HashSet<>();
+        for (int from = 0; from < distinctIds.size(); from += batchDeleteChunkSize) {
+            List<String> chunk = distinctIds.subList(from, Math.min(from + batchDeleteChunkSize, distinctIds.size()));
+
+            List<String> existing = transactionTemplate.execute(status -> {
+                List<String> found = authRepository.findExistingUserIds(chunk);
+                if (!found.isEmpty()) {
+                    authRepository.deleteAllByUserIdIn(found);
+                }
+                return found;
+            });
+
+            if (existing != null && !existing.isEmpty()) {
+                redisService.deleteRefreshSessions(existing);
+                userChangeBroadcaster.broadcast(UserChangedEvent.deleted(existing));
+                deletedIds.addAll(existing);
+            }
+        }
+
+        List<BatchDeleteResponseDto.Result> results = distinctIds.stream()
+                .map(userId -> new BatchDeleteResponseDto.Result(userId, deletedIds.contains(userId)
+                        ? BatchDeleteResponseDto.Status.DELETED
+                        : BatchDeleteResponseDto.Status.NOT_FOUND))
+                .toList();
+
+        return new BatchDeleteResponseDto(deletedIds.size(), distinctIds.size() - deletedIds.size(), results);
     }
 }
@@ -0,0 +1,199 @@
+package com.example.authservice.service;
+
+import com.example.authservice.exception.auth.PasswordHashingOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// 비밀번호 해싱(BCrypt 등) 전용 실행기
+// 해싱은 CPU를 많이 쓰는 작업이라 Tomcat 요청 스레드에서 바로 실행하면 로그인이 몰릴 때 모든 요청 스레드가 해싱에 묶인다.
+// 코어 수만큼의 전용 스레드와 크기가 정해진 대기열에서만 해싱을 실행하고,
+// 대기열이 가득 차면 기다리지 않고 바로 503을 반환해 /auth/token 같은 가벼운 요청이 계속 처리되도록 한다.
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    // 백그라운드 재해싱 결과 저장(DB 쓰기) 전용 실행기
+    // 해싱 스레드는 코어 수만큼만 있으므로 I/O를 기다리느라 묶이지 않도록 저장은 여기로 넘긴다.
+    private final ThreadPoolExecutor persistExecutor;
+
+    // 요청 스레드가 해싱 결과를 기다리는 최대 시간 (대기열 대기 + 해싱)
+    private final Duration timeout;
+
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            // 해싱 스레드 수, 0 이하이면 사용 가능한 코어 수
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            // 대기열 크기, 넘치는 요청은 즉시 거절
+            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hashing.timeout:5s}") Duration timeout
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()    // 대기열이 가득 차면 RejectedExecutionException
+        );
+        this.persistExecutor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory("password-rehash-persist-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // password.hashing.queue.size, password.hashing.active, password.hashing.wait, password.hashing.duration, password.hashing.rejected
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.remaining", executor, e -> e.getQueue().remainingCapacity())
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hashing.wait")
+                .description("Time a password hashing task spent in the queue")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.duration").tag("operation", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Password hashing requests rejected because the queue was full or timed out")
+                .register(meterRegistry);
+    }
+
+    // 비밀번호 암호화 (회원가입)
+    public String encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 비밀번호 검증 (로그인)
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시가 현재 해싱 정책(알고리즘, 작업량)보다 약한지 여부 (해시 연산 없이 파라미터만 비교)
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 결과를 기다리지 않는 재해싱 (로그인 시 해시 업그레이드)
+    // 대기열이 가득 차면 건너뛰고 다음 로그인 때 다시 시도한다.
+    public void encodeInBackground(String rawPassword, Consumer<String> onEncoded) {
+        try {
+            executor.execute(() -> {
+                try {
+                    long startedAt = System.nanoTime();
+                    String encoded = passwordEncoder.encode(rawPassword);
+                    encodeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    persist(encoded, onEncoded);
+                } catch (RuntimeException e) {
+                    log.warn("Background password rehash failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Password hashing queue is full, skipping background rehash");
+        }
+    }
+
+    // 재해싱 결과 저장은 저장 전용 실행기에서 실행 (가득 차면 건너뛰고 다음 로그인 때 다시 시도)
+    private void persist(String encoded, Consumer<String> onEncoded) {
+        try {
+            persistExecutor.execute(() -> {
+                try {
+                    onEncoded.accept(encoded);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to store rehashed password", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Rehash persist queue is full, skipping password upgrade");
+        }
+    }
+
+    // 해싱 실행기에 작업을 넣고 결과를 기다린다
+    private <T> T submit(Timer durationTimer, Callable<T> task) {
+
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingOverloadedException();
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 남아 있는 작업이면 실행되지 않도록 취소
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingOverloadedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadedException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        persistExecutor.shutdown();
+    }
+
+    // 스레드 덤프에서 구분할 수 있도록 이름 지정
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private HashingThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,56 +1,241 @@
 package com.example.authservice.service;
 
+import com.example.authservice.jwt.TokenDigest;
+import com.example.authservice.jwt.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
 
-    // Redis에 문자열(String) 기반의 키(String)-값(String)을 저장하기 위한 RedisTemplate 주입
-    private final RedisTemplate<String, String> redisTemplate;
+    // Redis에 문자열(String) 키와 바이너리(byte[]) 값을 저장하기 위한 RedisTemplate 주입
+    // refreshToken은 다이제스트(바이너리) 또는 원문(UTF-8 바이트)으로 저장된다.
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    // refreshToken이 교체/삭제되면 검증 캐시에서도 제거
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // refreshToken 세션 저장/교체 스크립트 (RedisConfig)
+    private final RedisScript<Long> saveRefreshSessionScript;
 
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
-    // Redis에서 refreshToken 키를 구분하기 위한 prefix 정의("RT:{userId}" 형태로 저장)
+    // refreshToken 저장 방식, 기본값은 다이제스트 저장
+    // 어느 방식이든 조회/교체 시에는 다이제스트와 원문을 모두 허용하므로, 이전에 원문으로 저장된 값은 만료될 때까지 그대로 사용된다.
+    @Value("${jwt.refresh-token-storage:DIGEST}")
+    private RefreshTokenStorageMode storageMode;
+
+    // 사용자별 최대 세션(기기) 수, 초과 시 가장 오래전에 발급된 세션부터 제거
+    @Value("${jwt.refresh-session.max-sessions:5}")
+    private int maxSessions;
+
+    // 사용자별 refreshToken 세션 해시 -> {sessionId: 발급시각 + 토큰 값}
+    // 키는 "RTS:{alice}"처럼 userId를 중괄호(해시 태그)로 감싸, Redis Cluster에서도 같은 사용자의 세션 키와
+    // 이전 refreshToken 키가 같은 슬롯에 배치되어 한 스크립트에서 함께 다룰 수 있다.
+    private static final String REFRESH_SESSION_PREFIX = "RTS:";
+
+    // 세션 도입 이전의 단일 refreshToken 키 ("RT:{alice}"), 남은 토큰이 만료될 때까지 교체/삭제에만 사용
     private static final String REFRESH_TOKEN_PREFIX = "RT:";
 
-    // userId로 refreshToken 저장
-    public void storeRefreshToken(String userId, String refreshToken) {
+    // 세션 값 앞부분의 발급시각(ms) 자릿수
+    private static final int ISSUED_AT_LENGTH = 13;
 
-        // (Key) RT:{userId}: (Value) refreshToken 형태로 Redis에 저장하고, 만료시간 설정
-        redisTemplate.opsForValue().set(
-                REFRESH_TOKEN_PREFIX + userId,
-                refreshToken,
-                Duration.ofMillis(refreshTokenExpiration) // TTL 설정
-        );
+    // 새 세션으로 refreshToken 저장 (로그인, 회원가입)
+    public void storeRefreshToken(String userId, String sessionId, String refreshToken) {
+        saveSession(userId, sessionId, refreshToken, "store", null, null);
     }
 
-    // userId로 refreshToken 조회
-    public String getRefreshTokenByUserId(String userId) {
-        return redisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + userId);
+    // 저장된 세션의 refreshToken이 currentToken과 같을 때만 newToken으로 교체 (한 번의 왕복으로 비교 + 저장)
+    // 세션 ID가 없는 이전 토큰(currentSessionId == null)은 RT:{userId} 값과 비교한 뒤 newSessionId 세션으로 전환한다.
+    public boolean rotateRefreshToken(String userId, String currentSessionId, String currentToken,
+                                      String newSessionId, String newToken) {
+
+        String mode = currentSessionId != null ? "rotate" : "rotate-legacy";
+        if (currentSessionId == null) {
+            migrateUntaggedLegacyKey(userId);
+        }
+        if (!saveSession(userId, newSessionId, newToken, mode, currentSessionId, currentToken)) {
+            return false;
+        }
+
+        // 교체된 이전 refreshToken의 검증 캐시 제거
+        verifiedTokenCache.invalidateRefreshTokens(userId);
+        return true;
     }
 
-    // 특정 userId에 해당하는 refreshToken을 삭제
-    public void deleteRefreshToken(String userId) {
-        redisTemplate.delete(REFRESH_TOKEN_PREFIX + userId);
+    // 세션의 refreshToken이 전달된 refreshToken과 일치하는지 확인 (한 번의 조회)
+    public boolean isRefreshTokenValid(String userId, String sessionId, String refreshToken) {
+
+        if (sessionId == null) {
+            // 세션 도입 이전 토큰 (해시 태그 도입 전 키 이름으로 저장된 값도 확인)
+            byte[] legacyValue = binaryRedisTemplate.opsForValue().get(legacyKey(userId));
+            if (legacyValue == null) {
+                legacyValue = binaryRedisTemplate.opsForValue().get(untaggedLegacyKey(userId));
+            }
+            return legacyValue != null && matches(legacyValue, refreshToken);
+        }
+
+        byte[] sessionValue = sessionOps().get(sessionKey(userId), sessionId);
+        return sessionValue != null
+                && !isExpired(sessionValue)
+                && matches(Arrays.copyOfRange(sessionValue, ISSUED_AT_LENGTH, sessionValue.length), refreshToken);
     }
 
-    // 저장된 refreshToken과 전달된 refreshToken이 일치하는지 확인
-    public boolean isRefreshTokenValid(String userId, String refreshToken) {
+    // 사용자의 활성 세션 목록 (sessionId -> 마지막 발급시각), 발급시각 최신순
+    public Map<String, Instant> getRefreshSessions(String userId) {
 
-        // 저장된 토큰을 가져옴
-        String storedToken = redisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + userId);
+        Map<String, byte[]> entries = sessionOps().entries(sessionKey(userId));
 
-        // 저장된 토큰이 null인 경우, 즉 해당 userId에 대한 refreshToken이 존재하지 않는 경우와
-        // 저장된 토큰과 전달된 토큰이 일치하는지 비교하여 반환
-        return storedToken != null && storedToken.equals(refreshToken);
+        List<Map.Entry<String, Instant>> sessions = new ArrayList<>();
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            if (!isExpired(entry.getValue())) {
+                sessions.add(Map.entry(entry.getKey(), Instant.ofEpochMilli(issuedAt(entry.getValue()))));
+            }
+        }
+        sessions.sort(Map.Entry.<String, Instant>comparingByValue().reversed());
+
+        Map<String, Instant> result = new LinkedHashMap<>();
+        sessions.forEach(session -> result.put(session.getKey(), session.getValue()));
+        return result;
     }
 
-}
+    // 특정 세션만 삭제 (해당 기기 로그아웃), 삭제된 세션이 없으면 false
+    public boolean deleteRefreshSession(String userId, String sessionId) {
+
+        Long deleted = sessionOps().delete(sessionKey(userId), sessionId);
+        verifiedTokenCache.invalidateRefreshTokens(userId);
+        return deleted != null && deleted > 0;
+    }
+
+    // 세션 도입 이전 refreshToken만 삭제 (세션 ID가 없는 토큰으로 로그아웃)
+    public void deleteLegacyRefreshToken(String userId) {
+        binaryRedisTemplate.delete(List.of(legacyKey(userId), untaggedLegacyKey(userId)));
+        verifiedTokenCache.invalidateRefreshTokens(userId);
+    }
+
+    // 특정 userId의 모든 세션 삭제 (전체 로그아웃, 회원 탈퇴)
+    public void deleteRefreshSessions(String userId) {
+        binaryRedisTemplate.delete(List.of(sessionKey(userId), legacyKey(userId), untaggedLegacyKey(userId)));
+        verifiedTokenCache.invalidateRefreshTokens(userId);
+    }
+
+    // 여러 사용자의 모든 세션 삭제 (일괄 탈퇴)
+    // UNLINK 한 번으로 모든 키를 삭제하고, 실제 메모리 해제는 Redis가 백그라운드에서 처리한다.
+    public void deleteRefreshSessions(Collection<String> userIds) {
+
+        List<String> keys = new ArrayList<>(userIds.size() * 3);
+        for (String userId : userIds) {
+            keys.add(sessionKey(userId));
+            keys.add(legacyKey(userId));
+            keys.add(untaggedLegacyKey(userId));
+        }
+        binaryRedisTemplate.unlink(keys);
+
+        userIds.forEach(verifiedTokenCache::invalidateRefreshTokens);
+    }
+
+    static String sessionKey(String userId) {
+        return REFRESH_SESSION_PREFIX + "{" + userId + "}";
+    }
+
+    static String legacyKey(String userId) {
+        return REFRESH_TOKEN_PREFIX + "{" + userId + "}";
+    }
 
+    // 해시 태그 도입 전의 이전 refreshToken 키 ("RT:alice"), 다른 슬롯일 수 있으므로 스크립트에는 넘기지 않는다
+    private static String untaggedLegacyKey(String userId) {
+        return REFRESH_TOKEN_PREFIX + userId;
+    }
+
+    // 해시 태그 없는 키에 남은 이전 refreshToken을 "RT:{userId}"로 옮긴다 (남은 TTL 유지)
+    // 키마다 단일 명령으로 처리하므로 클러스터에서도 동작하고, 동시에 옮겨도 SET NX로 한 번만 기록된다.
+    private void migrateUntaggedLegacyKey(String userId) {
+        String untaggedKey = untaggedLegacyKey(userId);
+        byte[] value = binaryRedisTemplate.opsForValue().get(untaggedKey);
+        if (value == null) {
+            return;
+        }
+
+        Long ttl = binaryRedisTemplate.getExpire(untaggedKey, TimeUnit.MILLISECONDS);
+        if (ttl != null && ttl > 0) {
+            binaryRedisTemplate.opsForValue().setIfAbsent(legacyKey(userId), value, Duration.ofMillis(ttl));
+        }
+        binaryRedisTemplate.delete(untaggedKey);
+    }
+
+    // 세션 해시 조회용 (필드: sessionId 문자열, 값: byte[])
+    private HashOperations<String, String, byte[]> sessionOps() {
+        return binaryRedisTemplate.opsForHash();
+    }
+
+    // 세션 저장 스크립트 호출, 교체 실패 시 false
+    private boolean saveSession(String userId, String sessionId, String refreshToken,
+                                String mode, String currentSessionId, String currentToken) {
+
+        long now = System.currentTimeMillis();
+        byte[] empty = new byte[0];
+
+        Long result = binaryRedisTemplate.execute(
+                saveRefreshSessionScript,
+                List.of(sessionKey(userId), legacyKey(userId)),
+                ascii(sessionId),
+                toSessionValue(now, refreshToken),
+                ascii(String.valueOf(refreshTokenExpiration)),              // TTL(ms)
+                ascii(String.valueOf(now - refreshTokenExpiration)),        // 만료 기준 발급시각
+                ascii(String.valueOf(maxSessions)),
+                ascii(mode),
+                currentSessionId != null ? ascii(currentSessionId) : empty,
+                currentToken != null ? TokenDigest.sha256(currentToken) : empty,                    // 다이제스트로 저장된 경우
+                currentToken != null ? currentToken.getBytes(StandardCharsets.UTF_8) : empty        // 원문으로 저장된 경우
+        );
+
+        return result != null && result >= 0;
+    }
+
+    // 세션 값 = 발급시각(13자리 ms) + 저장 방식에 따른 토큰 값
+    private byte[] toSessionValue(long issuedAt, String refreshToken) {
+
+        byte[] prefix = ascii(String.format("%0" + ISSUED_AT_LENGTH + "d", issuedAt));
+        byte[] tokenValue = storageMode == RefreshTokenStorageMode.DIGEST
+                ? TokenDigest.sha256(refreshToken)
+                : refreshToken.getBytes(StandardCharsets.UTF_8);
+
+        byte[] value = Arrays.copyOf(prefix, prefix.length + tokenValue.length);
+        System.arraycopy(tokenValue, 0, value, prefix.length, tokenValue.length);
+        return value;
+    }
+
+    private boolean isExpired(byte[] sessionValue) {
+        return issuedAt(sessionValue) < System.currentTimeMillis() - refreshTokenExpiration;
+    }
+
+    private static long issuedAt(byte[] sessionValue) {
+        return Long.parseLong(new String(sessionValue, 0, ISSUED_AT_LENGTH, StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // 저장된 값과 토큰 비교 (MessageDigest.isEqual은 길이가 같으면 상수 시간 비교)
+    // 32바이트 값은 다이제스트, 그 외는 원문으로 저장된 값으로 간주한다. (JWT 원문은 32바이트보다 훨씬 길다)
+    private static boolean matches(byte[] storedValue, String refreshToken) {
+        if (storedValue.length == TokenDigest.LENGTH) {
+            return MessageDigest.isEqual(storedValue, TokenDigest.sha256(refreshToken));
+        }
+        return MessageDigest.isEqual(storedValue, refreshToken.getBytes(StandardCharsets.UTF_8));
+    }
+}
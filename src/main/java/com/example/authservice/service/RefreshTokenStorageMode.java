@@ -0,0 +1,11 @@
+package com.example.authservice.service;
+
+// Redis에 refreshToken을 저장하는 방식 (jwt.refresh-token-storage)
+public enum RefreshTokenStorageMode {
+
+    // SHA-256 다이제스트(32바이트)만 저장, 세션당 메모리 사용량과 비교 시 전송량이 작다
+    DIGEST,
+
+    // JWT 원문 저장 (이전 방식)
+    TOKEN
+}
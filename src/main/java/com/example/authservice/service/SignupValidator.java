@@ -0,0 +1,138 @@
+package com.example.authservice.service;
+
+import com.example.authservice.exception.user.InvalidUserIdFormatException;
+import com.example.authservice.exception.user.ReservedUserIdException;
+import com.example.authservice.exception.user.WeakPasswordException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 회원가입 입력값 검증 (일반/소셜 회원가입, 사용자 가져오기에서 공유)
+// 정규식(String.matches) 대신 직접 작성한 검사로 호출마다 컴파일/객체 생성 없이 처리한다.
+//  - userId 형식: 영문/숫자 1~16자
+//  - 예약어: 목록의 단어와 정확히 일치하면 거부 (admin, root, system 등)
+//  - 금지어: 목록의 단어를 포함하면 거부 (욕설 등)
+//  - 비밀번호: 최소 8자 + 특수문자 포함
+// 예약어/금지어 목록은 설정한 리소스 파일에서 읽어 Aho-Corasick 오토마톤으로 만들어 두므로,
+// 목록이 수만 개로 늘어나도 검사 비용은 userId 길이(최대 16자)에만 비례한다.
+@Slf4j
+@Component
+public class SignupValidator {
+
+    private static final int MAX_USER_ID_LENGTH = 16;
+    private static final int MIN_PASSWORD_LENGTH = 8;
+
+    // 비밀번호에 하나 이상 포함되어야 하는 특수문자 (기존 정규식 [!@#$%^&*()\-_=+{};:,<.>]과 동일)
+    private static final boolean[] SPECIAL_CHARACTERS = new boolean[128];
+
+    static {
+        for (char c : "!@#$%^&*()-_=+{};:,<.>".toCharArray()) {
+            SPECIAL_CHARACTERS[c] = true;
+        }
+    }
+
+    private final WordAutomaton reservedUserIds;
+    private final WordAutomaton blockedWords;
+
+    @Autowired
+    public SignupValidator(
+            // 한 줄에 한 단어, '#'으로 시작하는 줄은 주석
+            @Value("${signup.reserved-user-ids:classpath:signup/reserved-user-ids.txt}") Resource reservedUserIds,
+            @Value("${signup.blocked-user-id-words:classpath:signup/blocked-user-id-words.txt}") Resource blockedWords) {
+        this(readWords(reservedUserIds), readWords(blockedWords));
+    }
+
+    // 단어 목록으로 직접 생성 (벤치마크 등)
+    SignupValidator(Collection<String> reservedUserIds, Collection<String> blockedWords) {
+        this.reservedUserIds = WordAutomaton.build(reservedUserIds);
+        this.blockedWords = WordAutomaton.build(blockedWords);
+        log.info("Signup validator loaded {} reserved userIds and {} blocked words",
+                this.reservedUserIds.wordCount(), this.blockedWords.wordCount());
+    }
+
+    // userId 형식 + 예약어/금지어 검사
+    public void validateUserId(String userId) {
+        if (!isValidUserIdFormat(userId)) {
+            throw new InvalidUserIdFormatException();
+        }
+        if (isReservedUserId(userId)) {
+            throw new ReservedUserIdException();
+        }
+    }
+
+    // 비밀번호 검사: 최소 8자 + 특수문자 포함
+    public void validatePassword(String password) {
+        if (!isStrongPassword(password)) {
+            throw new WeakPasswordException();
+        }
+    }
+
+    // 영문/숫자 1~16자
+    public boolean isValidUserIdFormat(String userId) {
+        if (userId == null || userId.isEmpty() || userId.length() > MAX_USER_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < userId.length(); i++) {
+            char c = userId.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 예약어와 일치하거나 금지어를 포함하는지 여부 (대소문자 무시, 형식 검사를 통과한 값 기준)
+    public boolean isReservedUserId(String userId) {
+        return reservedUserIds.matches(userId) || blockedWords.containsAny(userId);
+    }
+
+    public boolean isStrongPassword(String password) {
+        if (password == null || password.length() < MIN_PASSWORD_LENGTH) {
+            return false;
+        }
+
+        boolean special = false;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            // 기존 정규식(.*[...].*)의 '.'은 줄바꿈 문자와 일치하지 않았으므로 그대로 거부
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+            special |= c < SPECIAL_CHARACTERS.length && SPECIAL_CHARACTERS[c];
+        }
+        return special;
+    }
+
+    private static List<String> readWords(Resource resource) {
+        if (!resource.exists()) {
+            log.warn("Signup word list {} not found", resource.getDescription());
+            return List.of();
+        }
+
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    words.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read signup word list " + resource.getDescription(), e);
+        }
+        return words;
+    }
+}
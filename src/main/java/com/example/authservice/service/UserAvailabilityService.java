@@ -0,0 +1,163 @@
+package com.example.authservice.service;
+
+import com.example.authservice.event.UserChangedEvent;
+import com.example.authservice.repository.AuthRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Locale;
+
+// userId/email 사용 가능 여부 확인 (회원가입 화면의 입력 중 중복 확인)
+// 모든 userId, email을 담은 Bloom 필터로 "확실히 없음"은 쿼리 없이 바로 응답하고,
+// "있을 수도 있음"(실제로 있거나 오탐)일 때만 DB를 조회한다.
+//  - 기동 후 auth_user를 스트리밍으로 읽어 필터를 채우고, 완료 전까지는 항상 DB 조회
+//  - 가입 시 UserChangedEvent(CREATED)로 모든 레플리카의 필터에 추가
+//  - Bloom 필터는 삭제를 지원하지 않으므로, 탈퇴한 값은 DB 조회로 확인되고 주기적인 재구성 때 빠진다.
+//  - 대소문자를 구분하지 않는 DB 비교에 맞춰 소문자로 저장/조회 (필터는 항상 실제 값의 상위 집합)
+//  - userId는 먼저 회원가입과 같은 검사(형식, 예약어, 금지어)를 거쳐, 가입할 수 없는 값은 필터/DB 조회 없이 사용 불가로 응답
+@Slf4j
+@Service
+public class UserAvailabilityService {
+
+    private final AuthRepository authRepository;
+    private final SignupValidator signupValidator;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private final Counter validationCounter;
+    private final Counter filterNegativeCounter;
+    private final Counter databaseCounter;
+
+    // 조회에 사용하는 필터, 재구성 중에는 새로 만드는 필터에도 함께 추가
+    private volatile Filters current;
+    private volatile Filters building;
+
+    public UserAvailabilityService(
+            AuthRepository authRepository,
+            SignupValidator signupValidator,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            // 필터 크기 기준 사용자 수, 넘으면 오탐 확률이 올라간다
+            @Value("${availability.expected-users:1000000}") long expectedInsertions,
+            @Value("${availability.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.authRepository = authRepository;
+        this.signupValidator = signupValidator;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+
+        // 전체 행을 메모리에 올리지 않고 fetch-size 단위로 읽기
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(1000);
+
+        this.validationCounter = meterRegistry.counter("availability.checks", "source", "validation");
+        this.filterNegativeCounter = meterRegistry.counter("availability.checks", "source", "filter");
+        this.databaseCounter = meterRegistry.counter("availability.checks", "source", "database");
+    }
+
+    public boolean isUserIdAvailable(String userId) {
+        // 형식이 맞지 않거나 예약어/금지어이면 가입할 수 없으므로 사용 불가 (인덱스 조회 전에 확인)
+        if (!signupValidator.isValidUserIdFormat(userId) || signupValidator.isReservedUserId(userId)) {
+            validationCounter.increment();
+            return false;
+        }
+
+        Filters filters = current;
+        if (filters != null && !filters.userIds().mightContain(normalize(userId))) {
+            filterNegativeCounter.increment();
+            return true;
+        }
+        databaseCounter.increment();
+        return !authRepository.existsByUserId(userId);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        Filters filters = current;
+        if (filters != null && !filters.emails().mightContain(normalize(email))) {
+            filterNegativeCounter.increment();
+            return true;
+        }
+        databaseCounter.increment();
+        return !authRepository.existsByEmail(email);
+    }
+
+    // 기동 완료 후 필터 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // 탈퇴한 값 정리를 위해 주기적으로 재구성 (기본 매일 04:30)
+    @Scheduled(cron = "${availability.rebuild-cron:0 30 4 * * *}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Filters filters = new Filters(
+                new BloomFilter(expectedInsertions, falsePositiveProbability),
+                new BloomFilter(expectedInsertions, falsePositiveProbability));
+        building = filters;
+
+        try {
+            long[] count = {0};
+            streamingJdbcTemplate.query("select user_id, email from auth_user", rs -> {
+                filters.add(rs.getString(1), rs.getString(2));
+                count[0]++;
+            });
+
+            current = filters;
+            log.info("Availability filter built with {} users in {}ms", count[0], System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 이전 필터(또는 DB 조회)를 계속 사용
+            log.warn("Failed to build availability filter", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    // 가입한 사용자 추가 (이 인스턴스 또는 다른 레플리카)
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() != UserChangedEvent.Type.CREATED || event.getUserIds() == null) {
+            return;
+        }
+
+        List<String> userIds = event.getUserIds();
+        List<String> emails = event.getEmails();
+        for (int i = 0; i < userIds.size(); i++) {
+            String email = emails != null && i < emails.size() ? emails.get(i) : null;
+            add(current, userIds.get(i), email);
+            add(building, userIds.get(i), email);
+        }
+    }
+
+    private static void add(Filters filters, String userId, String email) {
+        if (filters != null) {
+            filters.add(userId, email);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Filters(BloomFilter userIds, BloomFilter emails) {
+
+        void add(String userId, String email) {
+            if (userId != null) {
+                userIds.put(normalize(userId));
+            }
+            if (email != null) {
+                emails.put(normalize(email));
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.authservice.service;
+
+import com.example.authservice.event.UserChangedEvent;
+import com.example.authservice.repository.AuthRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 이미 사용 중인 userId 대신 쓸 수 있는 userId 추천
+// 요청한 userId(소셜 가입은 이메일 앞부분)에 숫자를 붙인 후보 중 가장 가까운(작은 번호) 빈 값을 한 번에 반환해
+// 클라이언트가 다른 값을 추측해서 가입을 반복 시도하지 않도록 한다.
+//  - 모든 userId를 정렬된 집합(skip list)으로 메모리에 두고, 번호 범위를 순서대로 읽어 빈 번호를 쿼리 없이 찾는다.
+//  - 예약어/금지어가 들어간 값은 기본값(user)으로 바꾸고, 후보 검사 횟수는 요청한 개수의 몇 배로 제한한다.
+//  - 기동 후 auth_user를 스트리밍으로 읽어 채우고, 완료 전이나 인덱스를 끈 경우에는 후보들을 한 번의 IN 쿼리로 확인
+//  - UserChangedEvent로 모든 레플리카의 가입/탈퇴를 반영
+//  - 추천 후 가입 전에 다른 사용자가 먼저 가져갈 수 있으므로, 최종 중복 검사는 가입 시 DB 유니크 제약이 맡는다.
+@Slf4j
+@Service
+public class UserIdSuggestionService {
+
+    // userId 형식 (SignupRequestDto, AuthService와 동일): 영문/숫자 1~16자
+    private static final int MAX_USER_ID_LENGTH = 16;
+
+    // 요청한 값에서 쓸 수 있는 문자가 없을 때 사용할 기본값
+    private static final String DEFAULT_BASE = "user";
+
+    // 추천 1개당 예약어/금지어를 검사할 최대 후보 수 (요청 하나의 CPU 사용량 상한)
+    private static final int ATTEMPTS_PER_SUGGESTION = 4;
+
+    // 한 번의 추천에서 인덱스에서 읽을 최대 항목 수 (jane1 ~ jane9999가 모두 사용 중인 경우 등)
+    private static final int MAX_SCANNED = 10_000;
+
+    // 10^0 ~ 10^15 (번호 자릿수별 범위)
+    private static final long[] POWERS_OF_TEN = new long[MAX_USER_ID_LENGTH];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final AuthRepository authRepository;
+    private final SignupValidator signupValidator;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    private final boolean indexEnabled;
+    private final int maxCount;
+
+    // DB 비교와 맞추기 위해 소문자로 저장 (대소문자만 다른 userId도 중복으로 취급)
+    private final ConcurrentSkipListSet<String> userIds = new ConcurrentSkipListSet<>();
+
+    // 기동 시 로딩이 끝났는지 여부, 그 전에는 DB로 확인
+    private volatile boolean ready;
+
+    public UserIdSuggestionService(
+            AuthRepository authRepository,
+            SignupValidator signupValidator,
+            DataSource dataSource,
+            // 인스턴스마다 전체 userId를 메모리에 두므로(사용자 100만 명 기준 약 100MB) 끌 수 있다
+            @Value("${user-id-suggestion.index.enabled:true}") boolean indexEnabled,
+            // 한 번에 반환할 수 있는 최대 추천 수
+            @Value("${user-id-suggestion.max-count:20}") int maxCount) {
+        this.authRepository = authRepository;
+        this.signupValidator = signupValidator;
+        this.indexEnabled = indexEnabled;
+        this.maxCount = maxCount;
+
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(1000);
+    }
+
+    // requested를 기준으로 사용 가능한 userId를 최대 count개 반환
+    // requested 자체가 사용 가능하면 첫 번째로 포함하고, 나머지는 번호가 작은 순서 (jane -> jane1, jane2, ...)
+    public List<String> suggest(String requested, int count) {
+
+        int limit = Math.max(1, Math.min(count, maxCount));
+        String base = toBase(requested);
+
+        // 예약어이거나 금지어가 들어간 base는 번호를 붙여도 대부분 거부되므로 기본값으로 바꾼다
+        if (signupValidator.isReservedUserId(base)) {
+            base = DEFAULT_BASE;
+        }
+
+        int maxAttempts = limit * ATTEMPTS_PER_SUGGESTION;
+        if (ready) {
+            Candidates suggestions = new Candidates(limit, maxAttempts);
+            collectFromIndex(base, suggestions);
+            return suggestions.values;
+        }
+
+        // 인덱스가 없으면 번호 순서대로 후보를 넉넉히 만들어 한 번의 쿼리로 확인
+        Candidates candidates = new Candidates(maxAttempts, maxAttempts);
+        for (long number = 0; !candidates.isFull(); number++) {
+            candidates.offer(candidate(base, number));
+        }
+        Set<String> taken = new HashSet<>();
+        authRepository.findExistingUserIds(candidates.values).forEach(userId -> taken.add(normalize(userId)));
+
+        return candidates.values.stream()
+                .filter(candidate -> !taken.contains(normalize(candidate)))
+                .limit(limit)
+                .toList();
+    }
+
+    // 인덱스에서 빈 번호를 찾아 후보로 추가
+    // 자릿수마다 "prefix + 같은 자릿수 번호"는 문자열 순서와 번호 순서가 같으므로, 그 범위를 순서대로 읽으면서
+    // 사용 중인 번호 사이의 빈 번호만 후보로 검사한다. (사용 중인 번호를 하나씩 contains로 확인하지 않는다)
+    // 범위에는 더 긴 값도 들어 있으므로 (1자리 범위 jane1 ~ jane9 안의 jane10 ~ jane8999 등)
+    // 해당 자릿수보다 긴 값을 만나면 그 앞부분으로 시작하는 값을 모두 건너뛰어, 읽는 양이 자릿수별 번호 개수를 넘지 않게 한다.
+    private void collectFromIndex(String base, Candidates candidates) {
+
+        if (!userIds.contains(normalize(base))) {
+            candidates.offer(base);
+        }
+
+        int scanned = 0;
+        for (int digits = 1; digits < MAX_USER_ID_LENGTH && !candidates.isFull(); digits++) {
+            String prefix = base.substring(0, Math.min(base.length(), MAX_USER_ID_LENGTH - digits));
+            String key = normalize(prefix);
+            long low = digits == 1 ? 1 : POWERS_OF_TEN[digits - 1];
+            long high = POWERS_OF_TEN[digits] - 1;
+
+            int length = key.length() + digits;
+            String last = key + high;
+
+            // 아직 확인하지 않은 가장 작은 번호
+            long next = low;
+            for (String taken = userIds.ceiling(key + low);
+                 taken != null && taken.compareTo(last) <= 0;
+                 taken = userIds.higher(taken)) {
+                if (candidates.isFull()) {
+                    return;
+                }
+                // 사용 중인 번호가 매우 많은 base도 읽는 양을 제한
+                if (++scanned > MAX_SCANNED) {
+                    return;
+                }
+
+                // 자릿수보다 긴 값이면 같은 앞부분으로 시작하는 값을 모두 건너뜀 (다음 자릿수에서 확인)
+                if (taken.length() > length) {
+                    taken = taken.substring(0, length) + Character.MAX_VALUE;
+                    continue;
+                }
+
+                // 범위 안의 다른 값(jane1a 등)은 건너뜀
+                long number = suffixNumber(taken, key.length(), digits);
+                if (number < next) {
+                    continue;
+                }
+                for (; next < number && !candidates.isFull(); next++) {
+                    candidates.offer(prefix + next);
+                }
+                next = number + 1;
+            }
+            for (; next <= high && !candidates.isFull(); next++) {
+                candidates.offer(prefix + next);
+            }
+        }
+    }
+
+    // 기동 완료 후 전체 userId 로딩
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!indexEnabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            // 로딩 중 들어온 가입/탈퇴 이벤트도 같은 집합에 반영된다.
+            // 로딩 중 탈퇴한 userId가 다시 추가될 수는 있지만, 추천에서 빠질 뿐 잘못된 값을 추천하지는 않는다.
+            streamingJdbcTemplate.query("select user_id from auth_user", rs -> {
+                userIds.add(normalize(rs.getString(1)));
+            });
+            ready = true;
+            log.info("UserId suggestion index loaded {} userIds in {}ms", userIds.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 추천은 DB 조회로 계속 동작
+            log.warn("Failed to load userId suggestion index", e);
+        }
+    }
+
+    // 가입/탈퇴 반영 (이 인스턴스 또는 다른 레플리카)
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (!indexEnabled || event.getUserIds() == null) {
+            return;
+        }
+
+        switch (event.getType()) {
+            case CREATED -> event.getUserIds().forEach(userId -> userIds.add(normalize(userId)));
+            case DELETED -> event.getUserIds().forEach(userId -> userIds.remove(normalize(userId)));
+        }
+    }
+
+    // number 번째 후보: 0 = base, 그 외 base + 번호 (16자를 넘으면 base 뒤쪽을 잘라 번호 자리를 확보)
+    private static String candidate(String base, long number) {
+        if (number == 0) {
+            return base;
+        }
+        String suffix = Long.toString(number);
+        return base.substring(0, Math.min(base.length(), MAX_USER_ID_LENGTH - suffix.length())) + suffix;
+    }
+
+    // userId가 prefix(길이 prefixLength) + digits자리 번호이면 그 번호, 아니면 -1
+    private static long suffixNumber(String userId, int prefixLength, int digits) {
+        if (userId.length() != prefixLength + digits) {
+            return -1;
+        }
+        long number = 0;
+        for (int i = prefixLength; i < userId.length(); i++) {
+            char c = userId.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    // userId 형식에 맞지 않는 문자(소셜 가입 이메일의 '.', '_' 등)를 제거하고 16자로 자른다
+    private static String toBase(String requested) {
+        StringBuilder base = new StringBuilder(MAX_USER_ID_LENGTH);
+        if (requested != null) {
+            for (int i = 0; i < requested.length() && base.length() < MAX_USER_ID_LENGTH; i++) {
+                char c = requested.charAt(i);
+                if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                    base.append(c);
+                }
+            }
+        }
+        return base.isEmpty() ? DEFAULT_BASE : base.toString();
+    }
+
+    private static String normalize(String userId) {
+        return userId.toLowerCase(Locale.ROOT);
+    }
+
+    // 추천할 후보 목록, 예약어/금지어 검사 횟수를 제한한다
+    private final class Candidates {
+
+        private final List<String> values;
+        private final int limit;
+        private int attemptsLeft;
+
+        Candidates(int limit, int maxAttempts) {
+            this.values = new ArrayList<>(limit);
+            this.limit = limit;
+            this.attemptsLeft = maxAttempts;
+        }
+
+        boolean isFull() {
+            return values.size() >= limit || attemptsLeft <= 0;
+        }
+
+        void offer(String candidate) {
+            attemptsLeft--;
+            if (!signupValidator.isReservedUserId(candidate)) {
+                values.add(candidate);
+            }
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.authservice.service;
+
+import com.example.authservice.domain.UserType;
+import com.example.authservice.dto.UserImportRecordDto;
+import com.example.authservice.dto.UserImportResponseDto;
+import com.example.authservice.event.UserChangeBroadcaster;
+import com.example.authservice.event.UserChangedEvent;
+import com.example.authservice.event.UserCreatedEvent;
+import com.example.authservice.event.UserEventOutbox;
+import com.example.authservice.event.UserEventPublisher;
+import com.example.authservice.id.TimeOrderedIdGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+
+// 기존 시스템 계정 일괄 가져오기 (NDJSON 스트림, 한 줄에 사용자 한 명)
+// 요청 본문을 한 줄씩 읽어 batch-size 만큼 모일 때마다 처리하므로, 입력 크기와 관계없이 메모리 사용량이 일정하다.
+// 배치마다
+//  1. 형식 검사 (비밀번호는 이미 해싱된 값만 허용, 가져오기 중에는 해싱하지 않음)
+//  2. 배치 안의 중복 + DB에 이미 있는 email/userId를 in 조회 두 번으로 걸러냄
+//  3. 남은 사용자와 회원가입 이벤트(아웃박스)를 한 트랜잭션에서 JDBC 배치 insert
+// 중복/형식 오류는 해당 줄만 건너뛰고 계속 진행한다.
+@Slf4j
+@Service
+public class UserImportService {
+
+    // DelegatingPasswordEncoder가 검증할 수 있는 해시 형식
+    private static final List<String> PASSWORD_HASH_PREFIXES = List.of("{bcrypt}", "{argon2}", "$2a$", "$2b$", "$2y$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserEventOutbox userEventOutbox;
+    private final UserEventPublisher userEventPublisher;
+    private final TimeOrderedIdGenerator timeOrderedIdGenerator;
+    private final UserChangeBroadcaster userChangeBroadcaster;
+    private final SignupValidator signupValidator;
+    private final ObjectReader recordReader;
+
+    // 한 번에 insert 할 사용자 수 (트랜잭션 크기)
+    @Value("${internal.user-import.batch-size:1000}")
+    private int batchSize;
+
+    // 응답에 포함할 실패 줄 최대 개수
+    @Value("${internal.user-import.max-reported-failures:100}")
+    private int maxReportedFailures;
+
+    // AuthService와 같은 설정, 끄면 이벤트를 커밋 후 바로 발행
+    @Value("${outbox.enabled:true}")
+    private boolean outboxEnabled;
+
+    public UserImportService(JdbcTemplate jdbcTemplate,
+                             NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             UserEventOutbox userEventOutbox,
+                             UserEventPublisher userEventPublisher,
+                             TimeOrderedIdGenerator timeOrderedIdGenerator,
+                             UserChangeBroadcaster userChangeBroadcaster,
+                             SignupValidator signupValidator,
+                             ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.userEventOutbox = userEventOutbox;
+        this.userEventPublisher = userEventPublisher;
+        this.timeOrderedIdGenerator = timeOrderedIdGenerator;
+        this.userChangeBroadcaster = userChangeBroadcaster;
+        this.signupValidator = signupValidator;
+        this.recordReader = objectMapper.readerFor(UserImportRecordDto.class);
+    }
+
+    public UserImportResponseDto importUsers(InputStream body) throws IOException {
+
+        ImportResult result = new ImportResult(maxReportedFailures);
+        List<Row> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                Row row = parse(lineNumber, line, result);
+                if (row == null) {
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    importBatch(batch, result);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, result);
+        }
+
+        return new UserImportResponseDto(result.imported, result.duplicates, result.invalid, result.failures);
+    }
+
+    // 한 줄 파싱 + 형식 검사, 실패하면 결과에 기록하고 null
+    private Row parse(long lineNumber, String line, ImportResult result) {
+
+        UserImportRecordDto record;
+        try {
+            record = recordReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            result.invalid(lineNumber, null, null, "Malformed JSON");
+            return null;
+        }
+
+        UserType userType = record.getUserType() != null ? record.getUserType() : UserType.GENERAL;
+
+        // 기존 회원 이전이므로 형식만 검사 (예약어/금지어는 가입 시점의 정책을 따른다)
+        if (!signupValidator.isValidUserIdFormat(record.getUserId())) {
+            result.invalid(lineNumber, record.getUserId(), record.getEmail(), "Invalid userId format");
+            return null;
+        }
+        if (record.getEmail() == null || record.getEmail().isBlank() || !record.getEmail().contains("@")) {
+            result.invalid(lineNumber, record.getUserId(), record.getEmail(), "Invalid email");
+            return null;
+        }
+        if (userType == UserType.GENERAL && !isPasswordHash(record.getPassword())) {
+            result.invalid(lineNumber, record.getUserId(), record.getEmail(), "Password must be a supported hash");
+            return null;
+        }
+
+        return new Row(lineNumber, record, userType);
+    }
+
+    // 대소문자를 구분하지 않는 DB 비교에 맞춘 중복 검사용 값
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isPasswordHash(String password) {
+        return password != null && PASSWORD_HASH_PREFIXES.stream().anyMatch(password::startsWith);
+    }
+
+    private void importBatch(List<Row> batch, ImportResult result) {
+
+        // 배치 안의 중복 (먼저 나온 줄만 사용)
+        // 두 값을 모두 확인한 뒤 통과한 줄의 값만 기록한다.
+        // (email만 기록되고 userId 중복으로 거부되면, 같은 email의 뒤 줄이 잘못 중복으로 처리되므로)
+        // DB 비교(collation)가 대소문자를 구분하지 않으므로 소문자로 비교한다.
+        Set<String> batchEmails = new HashSet<>();
+        Set<String> batchUserIds = new HashSet<>();
+        List<Row> candidates = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            String email = normalize(row.record().getEmail());
+            String userId = normalize(row.record().getUserId());
+            if (batchEmails.contains(email) || batchUserIds.contains(userId)) {
+                result.duplicate(row, "Duplicate in import");
+            } else {
+                batchEmails.add(email);
+                batchUserIds.add(userId);
+                candidates.add(row);
+            }
+        }
+
+        // DB에 이미 있는 email/userId
+        Set<String> existingEmails = new HashSet<>();
+        namedParameterJdbcTemplate.queryForList(
+                "select email from auth_user where email in (:emails)",
+                Map.of("emails", batchEmails), String.class).forEach(email -> existingEmails.add(normalize(email)));
+        Set<String> existingUserIds = new HashSet<>();
+        namedParameterJdbcTemplate.queryForList(
+                "select user_id from auth_user where user_id in (:userIds)",
+                Map.of("userIds", batchUserIds), String.class).forEach(userId -> existingUserIds.add(normalize(userId)));
+
+        List<Row> rows = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            if (existingEmails.contains(normalize(row.record().getEmail()))) {
+                result.duplicate(row, "Email already exists");
+            } else if (existingUserIds.contains(normalize(row.record().getUserId()))) {
+                result.duplicate(row, "UserId already exists");
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            insert(rows);
+            result.imported += rows.size();
+        } catch (DuplicateKeyException e) {
+            // 조회 이후 다른 요청(회원가입 등)이 같은 값을 먼저 저장한 경우, 배치 전체가 롤백되므로 한 줄씩 다시 시도
+            log.debug("Duplicate key while importing batch, retrying row by row");
+            for (Row row : rows) {
+                try {
+                    insert(List.of(row));
+                    result.imported++;
+                } catch (DuplicateKeyException rowException) {
+                    result.duplicate(row, "Email or userId already exists");
+                }
+            }
+        }
+    }
+
+    // 사용자 + 회원가입 이벤트 배치 insert (한 트랜잭션)
+    // MariaDB Connector/J는 배치를 bulk 프로토콜로 전송한다. (useBulkStmts)
+    private void insert(List<Row> rows) {
+
+        List<UserCreatedEvent> events = rows.stream()
+                .map(row -> UserCreatedEvent.builder()
+                        .userId(row.record().getUserId())
+                        .email(row.record().getEmail())
+                        .profileName(row.record().getProfileName())
+                        .bio(row.record().getBio())
+                        .build())
+                .toList();
+
+        // PK는 UserEntity와 같은 시간 순서 ID
+        long[] ids = timeOrderedIdGenerator.nextIds(rows.size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(
+                    "insert into auth_user (id, user_id, email, password, user_type) values (?, ?, ?, ?, ?)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Row row = rows.get(i);
+                            ps.setLong(1, ids[i]);
+                            ps.setString(2, row.record().getUserId());
+                            ps.setString(3, row.record().getEmail());
+                            ps.setString(4, row.userType() == UserType.GENERAL ? row.record().getPassword() : null);
+                            ps.setString(5, row.userType().name());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return rows.size();
+                        }
+                    });
+
+            if (outboxEnabled) {
+                userEventOutbox.addUserCreatedEvents(events);
+            }
+        });
+
+        if (!outboxEnabled) {
+            events.forEach(userEventPublisher::sendUserCreatedEvent);
+        }
+
+        userChangeBroadcaster.broadcast(UserChangedEvent.created(
+                rows.stream().map(row -> row.record().getUserId()).toList(),
+                rows.stream().map(row -> row.record().getEmail()).toList()));
+    }
+
+    private record Row(long line, UserImportRecordDto record, UserType userType) {
+    }
+
+    // 가져오기 집계 (실패 줄은 최대 maxReportedFailures 개만 보관)
+    private static class ImportResult {
+
+        private final int maxReportedFailures;
+        private final List<UserImportResponseDto.Failure> failures = new ArrayList<>();
+        private long imported;
+        private long duplicates;
+        private long invalid;
+
+        ImportResult(int maxReportedFailures) {
+            this.maxReportedFailures = maxReportedFailures;
+        }
+
+        void invalid(long line, String userId, String email, String reason) {
+            invalid++;
+            report(line, userId, email, reason);
+        }
+
+        void duplicate(Row row, String reason) {
+            duplicates++;
+            report(row.line(), row.record().getUserId(), row.record().getEmail(), reason);
+        }
+
+        private void report(long line, String userId, String email, String reason) {
+            if (failures.size() < maxReportedFailures) {
+                failures.add(new UserImportResponseDto.Failure(line, userId, email, reason));
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.ReplicaRouting;
+import com.example.authservice.event.UserChangedEvent;
+import com.example.authservice.repository.AuthRepository;
+import com.example.authservice.repository.projection.UserIdentity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+// 사용자 식별 정보(UserIdentity) 캐시, userId와 email 두 키로 조회
+// 토큰 재발급/로그아웃의 사용자 존재 확인, 소셜 로그인의 회원 조회가 대부분 DB를 거치지 않도록 한다.
+//  - 존재하는 사용자만 캐시 (없는 사용자를 캐시하면 다른 레플리카에서 가입한 사용자가 없는 것으로 보일 수 있음)
+//  - 회원 삭제 시 UserChangeBroadcaster를 통해 모든 레플리카에서 제거, pub/sub 메시지를 놓친 경우는 TTL로 만료
+@Component
+public class UserLookupCache {
+
+    private final AuthRepository authRepository;
+    private final ReplicaRouting replicaRouting;
+
+    private final Cache<String, UserIdentity> byUserId;
+    private final Cache<String, UserIdentity> byEmail;
+
+    public UserLookupCache(
+            AuthRepository authRepository,
+            ReplicaRouting replicaRouting,
+            MeterRegistry meterRegistry,
+            @Value("${user-lookup-cache.maximum-size:100000}") long maximumSize,
+            @Value("${user-lookup-cache.ttl:10m}") Duration ttl) {
+        this.authRepository = authRepository;
+        this.replicaRouting = replicaRouting;
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // userId 키 항목이 크기/TTL로 밀려나면 같은 사용자의 email 키 항목도 제거
+        // email 키 항목은 항상 userId 키 항목이 있을 때만 남으므로, 삭제 시 userId 키 항목으로 email을 찾을 수 있다. (evict)
+        this.byUserId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .evictionListener((String userId, UserIdentity identity, RemovalCause cause) -> {
+                    if (identity != null) {
+                        byEmail.invalidate(identity.email());
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss} 등으로 적중률 확인
+        CaffeineCacheMetrics.monitor(meterRegistry, byUserId, "user-lookup.user-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "user-lookup.email");
+    }
+
+    // userId로 사용자 존재 여부 확인
+    public boolean existsByUserId(String userId) {
+        if (byUserId.getIfPresent(userId) != null) {
+            return true;
+        }
+        Optional<UserIdentity> identity = authRepository.findIdentityByUserId(userId);
+        if (identity.isEmpty() && replicaRouting.isEnabled()) {
+            // 레플리카에 아직 복제되지 않았을 수 있으므로 primary에서 다시 확인 (방금 가입한 사용자)
+            identity = replicaRouting.onPrimary(() -> authRepository.findIdentityByUserId(userId));
+        }
+        identity.ifPresent(this::put);
+        return identity.isPresent();
+    }
+
+    // email로 사용자 식별 정보 조회
+    public Optional<UserIdentity> findByEmail(String email) {
+        UserIdentity cached = byEmail.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UserIdentity> identity = authRepository.findIdentityByEmail(email);
+        if (identity.isEmpty() && replicaRouting.isEnabled()) {
+            identity = replicaRouting.onPrimary(() -> authRepository.findIdentityByEmail(email));
+        }
+        identity.ifPresent(this::put);
+        return identity;
+    }
+
+    // 회원 삭제 시 (이 인스턴스 또는 다른 레플리카)
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED && event.getUserIds() != null) {
+            evict(new HashSet<>(event.getUserIds()));
+        }
+    }
+
+    private void put(UserIdentity identity) {
+        byUserId.put(identity.userId(), identity);
+        byEmail.put(identity.email(), identity);
+    }
+
+    private void evict(Set<String> userIds) {
+        // 캐시된 userId 항목에서 email 키를 찾아 해당 키만 제거 (email 캐시 전체를 순회하지 않음)
+        Set<String> emails = new HashSet<>();
+        byUserId.getAllPresent(userIds).values().forEach(identity -> emails.add(identity.email()));
+
+        byUserId.invalidateAll(userIds);
+        byEmail.invalidateAll(emails);
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.authservice.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// userId 금지어 검사용 Aho-Corasick 오토마톤
+// 단어 수와 관계없이 입력 길이에 비례하는 시간으로 "단어와 정확히 일치"/"단어를 포함"을 확인한다.
+//  - userId에 쓸 수 있는 문자(영문/숫자)만 다루며, 대소문자는 구분하지 않는다.
+//  - 상태별 자식 간선은 CSR 형식의 배열(edgeStart, edgeLabels, edgeTargets)로 저장해 객체를 만들지 않는다.
+//  - 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 사용해도 된다.
+final class WordAutomaton {
+
+    // 영문 26자 + 숫자 10자
+    private static final int ALPHABET_SIZE = 36;
+
+    private static final int ROOT = 0;
+
+    // 상태 s의 자식 간선은 edgeLabels/edgeTargets[edgeStart[s] .. edgeStart[s + 1])
+    private final int[] edgeStart;
+    private final byte[] edgeLabels;
+    private final int[] edgeTargets;
+
+    // 일치하는 자식이 없을 때 이동할 상태 (현재까지 읽은 문자열의 가장 긴 접미사에 해당하는 상태)
+    private final int[] fail;
+
+    // 상태까지의 문자열이 단어인지 여부
+    private final boolean[] word;
+
+    // 상태까지의 문자열이 어떤 단어로 끝나는지 여부 (word | output[fail])
+    private final boolean[] output;
+
+    private final int wordCount;
+
+    private WordAutomaton(int[] edgeStart, byte[] edgeLabels, int[] edgeTargets,
+                          int[] fail, boolean[] word, boolean[] output, int wordCount) {
+        this.edgeStart = edgeStart;
+        this.edgeLabels = edgeLabels;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.word = word;
+        this.output = output;
+        this.wordCount = wordCount;
+    }
+
+    // 단어 목록으로 오토마톤 생성, 영문/숫자 외의 문자가 들어간 단어는 userId와 일치할 수 없으므로 제외
+    static WordAutomaton build(Collection<String> words) {
+
+        // 1. 트라이 구성 (생성 중에만 해시맵으로 자식을 찾는다)
+        Map<Long, Integer> children = new HashMap<>();
+        int states = 1;
+        int wordCount = 0;
+        boolean[] word = new boolean[16];
+
+        for (String value : words) {
+            if (value == null || value.isEmpty() || !isAlphanumeric(value)) {
+                continue;
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < value.length(); i++) {
+                long key = (long) state * ALPHABET_SIZE + symbol(value.charAt(i));
+                Integer child = children.get(key);
+                if (child == null) {
+                    child = states++;
+                    children.put(key, child);
+                }
+                state = child;
+            }
+
+            if (state >= word.length) {
+                word = Arrays.copyOf(word, Math.max(word.length * 2, state + 1));
+            }
+            if (!word[state]) {
+                word[state] = true;
+                wordCount++;
+            }
+        }
+        word = Arrays.copyOf(word, states);
+
+        // 2. 간선을 (부모, 문자) 순서로 정렬해 CSR 배열로 변환
+        long[] edges = new long[children.size()];
+        int index = 0;
+        for (Map.Entry<Long, Integer> entry : children.entrySet()) {
+            edges[index++] = (entry.getKey() << 32) | entry.getValue();
+        }
+        Arrays.sort(edges);
+
+        int[] edgeStart = new int[states + 1];
+        byte[] edgeLabels = new byte[edges.length];
+        int[] edgeTargets = new int[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            long key = edges[i] >>> 32;
+            edgeStart[(int) (key / ALPHABET_SIZE) + 1]++;
+            edgeLabels[i] = (byte) (key % ALPHABET_SIZE);
+            edgeTargets[i] = (int) edges[i];
+        }
+        for (int s = 0; s < states; s++) {
+            edgeStart[s + 1] += edgeStart[s];
+        }
+
+        // 3. 너비 우선으로 실패 링크와 출력 계산 (부모가 항상 자식보다 먼저 처리된다)
+        int[] fail = new int[states];
+        boolean[] output = Arrays.copyOf(word, states);
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = ROOT;
+
+        WordAutomaton partial = new WordAutomaton(edgeStart, edgeLabels, edgeTargets, fail, word, output, wordCount);
+        while (head < tail) {
+            int state = queue[head++];
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                int child = edgeTargets[e];
+                if (state != ROOT) {
+                    int f = fail[state];
+                    while (f != ROOT && partial.child(f, edgeLabels[e]) < 0) {
+                        f = fail[f];
+                    }
+                    int next = partial.child(f, edgeLabels[e]);
+                    fail[child] = next >= 0 ? next : ROOT;
+                    output[child] |= output[fail[child]];
+                }
+                queue[tail++] = child;
+            }
+        }
+
+        return partial;
+    }
+
+    // value 전체가 단어와 일치하는지 여부 (대소문자 무시)
+    boolean matches(String value) {
+        int state = ROOT;
+        for (int i = 0; i < value.length(); i++) {
+            int symbol = symbol(value.charAt(i));
+            if (symbol < 0 || (state = child(state, symbol)) < 0) {
+                return false;
+            }
+        }
+        return word[state];
+    }
+
+    // value 안에 단어가 하나라도 포함되어 있는지 여부 (대소문자 무시)
+    boolean containsAny(String value) {
+        int state = ROOT;
+        for (int i = 0; i < value.length(); i++) {
+            int symbol = symbol(value.charAt(i));
+            if (symbol < 0) {
+                // 단어에 없는 문자이므로 처음부터 다시
+                state = ROOT;
+                continue;
+            }
+
+            int next;
+            while ((next = child(state, symbol)) < 0 && state != ROOT) {
+                state = fail[state];
+            }
+            state = Math.max(next, ROOT);
+
+            if (output[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int wordCount() {
+        return wordCount;
+    }
+
+    // 자식 상태, 없으면 -1 (상태당 간선은 최대 36개)
+    private int child(int state, int symbol) {
+        for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+            if (edgeLabels[e] == symbol) {
+                return edgeTargets[e];
+            }
+        }
+        return -1;
+    }
+
+    // a-z/A-Z -> 0~25, 0-9 -> 26~35, 그 외 -1
+    private static int symbol(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= '0' && c <= '9') {
+            return 26 + (c - '0');
+        }
+        return -1;
+    }
+
+    private static boolean isAlphanumeric(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (symbol(value.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
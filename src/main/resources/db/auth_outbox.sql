@@ -0,0 +1,25 @@
+-- 트랜잭션 아웃박스 테이블 (MariaDB, OutboxEventEntity / OutboxRelay)
+--
+-- 릴레이는 status = 'PENDING' 인 행을 id 순서로 가져오므로 (status, id) 인덱스가 필요하다.
+-- 배포 순서
+--   1. 이 스크립트 실행 (테이블이 없으면 회원가입 시 아웃박스 기록이 실패한다)
+--   2. 새 버전 배포 (outbox.enabled 기본값 true)
+--
+-- 발행하지 못하고 FAILED 가 된 이벤트 확인 / 원인 해결 후 다시 발행
+--   SELECT id, event_type, attempts, created_at FROM auth_outbox WHERE status = 'FAILED' ORDER BY id;
+--   UPDATE auth_outbox SET status = 'PENDING', attempts = 0 WHERE status = 'FAILED' AND id IN (...);
+
+CREATE TABLE IF NOT EXISTS auth_outbox (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type    VARCHAR(64)  NOT NULL,
+    exchange      VARCHAR(255) NOT NULL,
+    routing_key   VARCHAR(255) NOT NULL,
+    payload       LONGTEXT     NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    status        VARCHAR(16)  NOT NULL DEFAULT 'PENDING',
+    sent_at       DATETIME(6)  NULL,
+    attempts      INT          NOT NULL DEFAULT 0,
+    claimed_until DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    KEY idx_auth_outbox_status_id (status, id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
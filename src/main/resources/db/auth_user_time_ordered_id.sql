@@ -0,0 +1,9 @@
+-- auth_user.id 를 IDENTITY(AUTO_INCREMENT)에서 애플리케이션이 생성하는 시간 순서 64비트 ID(TimeOrderedIdGenerator)로 전환 (MariaDB)
+--
+-- 기존 행은 그대로 유지한다.
+-- 기존 AUTO_INCREMENT 값은 새 ID(2024-01-01 이후 ms << 22)보다 항상 작으므로 PK 순서와 유일성이 유지된다.
+-- 배포 순서
+--   1. 새 버전 배포 (AUTO_INCREMENT 컬럼에 명시적으로 id를 넣어도 동작하므로 이 스크립트 전에 배포해도 된다)
+--   2. 모든 인스턴스가 새 버전으로 바뀐 뒤 아래 ALTER 실행 (이전 버전이 남아 있으면 id 없이 insert 할 수 있으므로)
+
+ALTER TABLE auth_user MODIFY id BIGINT NOT NULL;
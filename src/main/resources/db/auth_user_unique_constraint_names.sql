@@ -0,0 +1,36 @@
+-- auth_user 유니크 제약 이름 변경 (MariaDB 10.5.2 이상)
+-- 회원가입 중복 검사는 제약 이름(uk_auth_user_email, uk_auth_user_user_id)으로 중복 항목을 구분한다.
+-- 이름이 다르면 조회로 한 번 더 확인하므로 동작은 같지만, 중복 가입 시 추가 조회가 발생한다.
+--
+-- 기존 인덱스는 @Column(unique = true)로 Hibernate가 만든 이름(UK_ + 해시, Hibernate 버전마다 다름)이므로
+-- 이름을 적어 두지 않고 information_schema에서 email / user_id 단일 컬럼 유니크 인덱스를 찾아 바꾼다.
+-- 이미 바뀌어 있으면 아무것도 하지 않으므로 여러 번 실행해도 된다.
+-- 확인: SHOW INDEX FROM auth_user WHERE Non_unique = 0;
+
+-- email
+SET @index_name = (
+    SELECT index_name
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'auth_user' AND non_unique = 0 AND index_name <> 'PRIMARY'
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'email' AND index_name <> 'uk_auth_user_email'
+    LIMIT 1);
+SET @ddl = IF(@index_name IS NULL, 'DO 0',
+    CONCAT('ALTER TABLE auth_user RENAME INDEX `', @index_name, '` TO uk_auth_user_email'));
+PREPARE rename_index FROM @ddl;
+EXECUTE rename_index;
+DEALLOCATE PREPARE rename_index;
+
+-- user_id
+SET @index_name = (
+    SELECT index_name
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'auth_user' AND non_unique = 0 AND index_name <> 'PRIMARY'
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'user_id' AND index_name <> 'uk_auth_user_user_id'
+    LIMIT 1);
+SET @ddl = IF(@index_name IS NULL, 'DO 0',
+    CONCAT('ALTER TABLE auth_user RENAME INDEX `', @index_name, '` TO uk_auth_user_user_id'));
+PREPARE rename_index FROM @ddl;
+EXECUTE rename_index;
+DEALLOCATE PREPARE rename_index;
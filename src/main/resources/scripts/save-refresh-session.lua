@@ -0,0 +1,69 @@
+-- refreshToken 세션 저장/교체
+-- 사용자별 해시(RTS:{userId}, 중괄호는 Redis Cluster 해시 태그)에 세션 ID(sid)별로 "발급시각(13자리 ms) + 토큰 값(다이제스트 또는 원문)"을 저장한다.
+-- 저장 후 만료된 세션을 정리하고, 세션 수가 상한을 넘으면 발급시각이 가장 오래된 세션부터 제거한다.
+--
+-- KEYS[1] : RTS:{userId}  (세션 해시)
+-- KEYS[2] : RT:{userId}   (세션 도입 이전의 단일 refreshToken 키)
+-- ARGV[1] : 저장할 세션 ID
+-- ARGV[2] : 저장할 값 (발급시각 13자리 + 토큰 값)
+-- ARGV[3] : TTL (ms)
+-- ARGV[4] : 만료 기준 발급시각 (ms), 이보다 먼저 발급된 세션은 만료
+-- ARGV[5] : 사용자별 최대 세션 수
+-- ARGV[6] : 모드 (store = 새 세션, rotate = 기존 세션 교체, rotate-legacy = RT:{userId} 토큰을 세션으로 전환)
+-- ARGV[7] : (rotate) 교체할 세션 ID
+-- ARGV[8] : (rotate) 현재 refreshToken의 SHA-256 다이제스트
+-- ARGV[9] : (rotate) 현재 refreshToken 원문
+-- 반환값   : -1 = 교체 실패(세션 없음, 만료, 불일치), 0 이상 = 성공 (상한 초과로 제거된 세션 수)
+
+local mode = ARGV[6]
+local cutoff = tonumber(ARGV[4])
+
+if mode == 'rotate' then
+    local current = redis.call('HGET', KEYS[1], ARGV[7])
+    if not current then
+        return -1
+    end
+    if tonumber(string.sub(current, 1, 13)) < cutoff then
+        redis.call('HDEL', KEYS[1], ARGV[7])
+        return -1
+    end
+    local stored = string.sub(current, 14)
+    if stored ~= ARGV[8] and stored ~= ARGV[9] then
+        return -1
+    end
+elseif mode == 'rotate-legacy' then
+    local legacy = redis.call('GET', KEYS[2])
+    if not legacy or (legacy ~= ARGV[8] and legacy ~= ARGV[9]) then
+        return -1
+    end
+    redis.call('DEL', KEYS[2])
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+
+-- 만료된 세션 정리
+local entries = redis.call('HGETALL', KEYS[1])
+local live = {}
+for i = 1, #entries, 2 do
+    local issuedAt = tonumber(string.sub(entries[i + 1], 1, 13))
+    if issuedAt < cutoff then
+        redis.call('HDEL', KEYS[1], entries[i])
+    else
+        table.insert(live, { entries[i], issuedAt })
+    end
+end
+
+-- 상한 초과 시 오래된 세션부터 제거
+local evicted = 0
+local maxSessions = tonumber(ARGV[5])
+if #live > maxSessions then
+    table.sort(live, function(a, b) return a[2] < b[2] end)
+    for i = 1, #live - maxSessions do
+        redis.call('HDEL', KEYS[1], live[i][1])
+        evicted = evicted + 1
+    end
+end
+
+-- 해시 전체 TTL은 가장 최근에 발급된 세션 기준
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return evicted
@@ -0,0 +1,45 @@
+package com.example.authservice.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 레플리카 라우팅 상태: 사용 여부와 primary 강제 구간
+class ReplicaRoutingTest {
+
+    @DisplayName("레플리카 설정이 없거나 레플리카가 없으면 사용하지 않음")
+    @Test
+    void isEnabled_shouldRequireReplicas() {
+
+        // given
+        ReplicaDataSourceProperties withReplica = new ReplicaDataSourceProperties();
+        withReplica.setReplicas(List.of(new ReplicaDataSourceProperties.Replica()));
+
+        // when & then
+        assertFalse(new ReplicaRouting(Optional.empty()).isEnabled());
+        assertFalse(new ReplicaRouting(Optional.of(new ReplicaDataSourceProperties())).isEnabled());
+        assertTrue(new ReplicaRouting(Optional.of(withReplica)).isEnabled());
+    }
+
+    @DisplayName("onPrimary 구간 안에서만 primary 강제, 중첩되어도 바깥 구간 상태를 복원")
+    @Test
+    void onPrimary_shouldForcePrimaryOnlyInside() {
+
+        // given
+        ReplicaRouting replicaRouting = new ReplicaRouting(true);
+
+        // when & then
+        assertFalse(replicaRouting.isPrimaryForced());
+        boolean nested = replicaRouting.onPrimary(() -> {
+            assertTrue(replicaRouting.isPrimaryForced());
+            replicaRouting.onPrimary(() -> null);
+            return replicaRouting.isPrimaryForced();
+        });
+        assertTrue(nested);
+        assertFalse(replicaRouting.isPrimaryForced());
+    }
+}
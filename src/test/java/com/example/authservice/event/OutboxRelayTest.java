@@ -0,0 +1,158 @@
+package com.example.authservice.event;
+
+import com.example.authservice.domain.OutboxEventEntity;
+import com.example.authservice.domain.OutboxStatus;
+import com.example.authservice.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 아웃박스 릴레이의 confirm/return 처리 검증
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxRepository, userEventPublisher, new ObjectMapper(), transactionTemplate);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxRelay, "confirmTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(outboxRelay, "claimTimeout", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 10);
+
+        // 트랜잭션 없이 콜백만 실행
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        lenient().when(outboxRepository.findClaimableForUpdate(eq(OutboxStatus.PENDING), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(event(1L)));
+    }
+
+    @DisplayName("ack를 받고 반환되지 않은 이벤트는 발행 완료로 표시")
+    @Test
+    void relay_withAck_shouldMarkSent() {
+
+        // given
+        doAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(userEventPublisher).publish(anyString(), anyString(), any(), any(CorrelationData.class));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxRepository).claim(eq(List.of(1L)), any(Instant.class));
+        verify(outboxRepository).markSent(eq(List.of(1L)), eq(OutboxStatus.SENT), any(Instant.class));
+        verify(outboxRepository, never()).release(anyCollection());
+    }
+
+    @DisplayName("라우팅되지 않아 반환된 이벤트는 ack를 받아도 발행 완료로 표시하지 않고 다시 발행 대기")
+    @Test
+    void relay_withReturnedMessage_shouldKeepPending() {
+
+        // given
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            correlationData.setReturned(new ReturnedMessage(
+                    new Message(new byte[0], new MessageProperties()), 312, "NO_ROUTE", "user.exchange", "user.created"));
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(userEventPublisher).publish(anyString(), anyString(), any(), any(CorrelationData.class));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxRepository, never()).markSent(anyCollection(), any(), any());
+        verify(outboxRepository).parkExhausted(List.of(1L), OutboxStatus.FAILED, 10);
+        verify(outboxRepository).release(List.of(1L));
+    }
+
+    @DisplayName("nack를 받은 이벤트는 다시 발행 대기")
+    @Test
+    void relay_withNack_shouldKeepPending() {
+
+        // given
+        doAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+            return null;
+        }).when(userEventPublisher).publish(anyString(), anyString(), any(), any(CorrelationData.class));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxRepository, never()).markSent(anyCollection(), any(), any());
+        verify(outboxRepository).release(List.of(1L));
+    }
+
+    @DisplayName("알 수 없는 종류의 이벤트는 발행하지 않고 FAILED로 전환")
+    @Test
+    void relay_withUnknownEventType_shouldPark() {
+
+        // given
+        when(outboxRepository.findClaimableForUpdate(eq(OutboxStatus.PENDING), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(OutboxEventEntity.builder()
+                        .id(2L)
+                        .eventType("user.unknown")
+                        .exchange("user.exchange")
+                        .routingKey("user.unknown")
+                        .payload("{}")
+                        .createdAt(Instant.now())
+                        .build()));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verifyNoInteractions(userEventPublisher);
+        verify(outboxRepository).park(List.of(2L), OutboxStatus.FAILED);
+    }
+
+    private static OutboxEventEntity event(long id) {
+        return OutboxEventEntity.builder()
+                .id(id)
+                .eventType(UserEventOutbox.USER_CREATED)
+                .exchange("user.exchange")
+                .routingKey("user.created")
+                .payload("{\"userId\":\"Hong123\",\"email\":\"hong@example.com\"}")
+                .createdAt(Instant.now())
+                .build();
+    }
+}
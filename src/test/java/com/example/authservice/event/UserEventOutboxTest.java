@@ -0,0 +1,77 @@
+package com.example.authservice.event;
+
+import com.example.authservice.config.RabbitProperties;
+import com.example.authservice.domain.OutboxEventEntity;
+import com.example.authservice.domain.OutboxStatus;
+import com.example.authservice.id.TimeOrderedIdGenerator;
+import com.example.authservice.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 아웃박스 JDBC 배치 insert를 Hibernate가 생성한 스키마(H2)에 실행해 검증
+// (ddl-auto로 만든 테이블에는 DB 기본값이 없으므로 NOT NULL 컬럼을 모두 지정해야 한다)
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.kubernetes.enabled=false"
+})
+class UserEventOutboxTest {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // UserEntity의 ID 생성기(TimeOrderedIdHibernateGenerator)가 주입받는 빈 (JPA 슬라이스에는 없음)
+    @MockBean
+    private TimeOrderedIdGenerator timeOrderedIdGenerator;
+
+    @DisplayName("일괄 가져오기 이벤트는 PENDING 상태, 시도 횟수 0으로 기록")
+    @Test
+    void addUserCreatedEvents_shouldInsertPendingRows() {
+
+        // given
+        UserEventOutbox userEventOutbox = new UserEventOutbox(outboxRepository, rabbitProperties(), new ObjectMapper(), jdbcTemplate);
+
+        // when
+        userEventOutbox.addUserCreatedEvents(List.of(
+                UserCreatedEvent.builder().userId("Hong123").email("hong@example.com").build(),
+                UserCreatedEvent.builder().userId("Kim456").email("kim@example.com").build()));
+
+        // then
+        List<OutboxEventEntity> events = outboxRepository.findAll();
+        assertEquals(2, events.size());
+        for (OutboxEventEntity event : events) {
+            assertEquals(OutboxStatus.PENDING, event.getStatus());
+            assertEquals(0, event.getAttempts());
+            assertEquals(UserEventOutbox.USER_CREATED, event.getEventType());
+            assertEquals("user.exchange", event.getExchange());
+            assertEquals("user.created", event.getRoutingKey());
+            assertNull(event.getSentAt());
+        }
+    }
+
+    private static RabbitProperties rabbitProperties() {
+        RabbitProperties.Exchanges exchanges = new RabbitProperties.Exchanges();
+        exchanges.setUser("user.exchange");
+
+        RabbitProperties.RoutingKeys.User userRoutingKeys = new RabbitProperties.RoutingKeys.User();
+        userRoutingKeys.setCreated("user.created");
+        RabbitProperties.RoutingKeys routingKeys = new RabbitProperties.RoutingKeys();
+        routingKeys.setUser(userRoutingKeys);
+
+        RabbitProperties properties = new RabbitProperties();
+        properties.setExchanges(exchanges);
+        properties.setRoutingKeys(routingKeys);
+        return properties;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.authservice.id;
+
+import com.example.authservice.exception.id.IdGenerationUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+// 시간 순서 ID 생성기 (고정 워커 ID 모드, Redis 사용 안 함)
+@ExtendWith(MockitoExtension.class)
+class TimeOrderedIdGeneratorTest {
+
+    private static final int WORKER_ID = 7;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private TimeOrderedIdGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new TimeOrderedIdGenerator(redisTemplate, WORKER_ID, Duration.ofSeconds(60), Duration.ofSeconds(5));
+        generator.init();
+    }
+
+    @DisplayName("같은 ms 안에서도 ID는 항상 증가하고 워커 ID가 들어감")
+    @Test
+    void nextId_shouldBeMonotonic() {
+
+        // when
+        long[] ids = generator.nextIds(20_000);
+
+        // then
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1], "id at " + i + " is not greater than the previous one");
+        }
+        for (long id : ids) {
+            assertEquals(WORKER_ID, workerId(id));
+        }
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @DisplayName("한 ms의 시퀀스(4096개)를 다 쓰면 다음 ms로 넘어가 시퀀스 0부터 사용")
+    @Test
+    void nextId_withSequenceOverflow_shouldMoveToNextMillisecond() {
+
+        // given
+        // 현재 시각보다 앞선 마지막 시각에서 시퀀스를 모두 사용한 상태
+        long last = System.currentTimeMillis() + 10_000;
+        ReflectionTestUtils.setField(generator, "lastTimestamp", last);
+        ReflectionTestUtils.setField(generator, "sequence", 4094L);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // then
+        assertEquals(last, timestamp(first));
+        assertEquals(4095, sequence(first));
+        assertEquals(last + 1, timestamp(second));
+        assertEquals(0, sequence(second));
+        assertTrue(second > first);
+    }
+
+    @DisplayName("임대 유효 기한이 지나면 503 예외, 상태는 바뀌지 않아 임대가 확인되면 이어서 생성")
+    @Test
+    void nextId_withExpiredLease_shouldThrowUnavailable() {
+
+        // given
+        long before = generator.nextId();
+        ReflectionTestUtils.setField(generator, "leaseValidUntil", System.currentTimeMillis() - 1);
+
+        // when & then
+        IdGenerationUnavailableException exception =
+                assertThrows(IdGenerationUnavailableException.class, generator::nextId);
+        assertEquals(503, exception.getStatusCode());
+
+        ReflectionTestUtils.setField(generator, "leaseValidUntil", Long.MAX_VALUE);
+        assertTrue(generator.nextId() > before);
+    }
+
+    @DisplayName("고정 워커 ID가 범위를 벗어나면 기동 실패")
+    @Test
+    void init_withOutOfRangeWorkerId_shouldFail() {
+        TimeOrderedIdGenerator invalid = new TimeOrderedIdGenerator(
+                redisTemplate, TimeOrderedIdGenerator.MAX_WORKER_ID + 1, Duration.ofSeconds(60), Duration.ofSeconds(5));
+
+        assertThrows(IllegalStateException.class, invalid::init);
+    }
+
+    private static long timestamp(long id) {
+        return (id >>> 22) + TimeOrderedIdGenerator.EPOCH_MILLIS;
+    }
+
+    private static long workerId(long id) {
+        return (id >>> 12) & TimeOrderedIdGenerator.MAX_WORKER_ID;
+    }
+
+    private static long sequence(long id) {
+        return id & 0xFFF;
+    }
+}
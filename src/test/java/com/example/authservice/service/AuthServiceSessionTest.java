@@ -0,0 +1,183 @@
+package com.example.authservice.service;
+
+import com.example.authservice.dto.TokenResponseDto;
+import com.example.authservice.exception.token.InvalidRefreshTokenException;
+import com.example.authservice.jwt.JwtTokenProvider;
+import com.example.authservice.jwt.ParsedToken;
+import com.example.authservice.jwt.TokenValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 세션(기기)별 refreshToken 로그아웃/재발급 동작 검증
+@ExtendWith(MockitoExtension.class)
+class AuthServiceSessionTest {
+
+    private static final String USER_ID = "Hong123";
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private UserLookupCache userLookupCache;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        // 재발급할 때마다 refreshToken 교체 (기본값)
+        ReflectionTestUtils.setField(authService, "refreshTokenRotationThreshold", Duration.ZERO);
+        ReflectionTestUtils.setField(authService, "refreshTokenExpiration", Duration.ofDays(14).toMillis());
+    }
+
+    @DisplayName("refreshToken 교체 기준이 만료 시간 이상이면 기동 실패")
+    @Test
+    void validateRefreshTokenRotationThreshold_withThresholdNotBelowExpiry_shouldFail() {
+
+        // given
+        ReflectionTestUtils.setField(authService, "refreshTokenRotationThreshold", Duration.ofDays(14));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> authService.validateRefreshTokenRotationThreshold());
+
+        ReflectionTestUtils.setField(authService, "refreshTokenRotationThreshold", Duration.ofDays(7));
+        assertDoesNotThrow(() -> authService.validateRefreshTokenRotationThreshold());
+    }
+
+    @DisplayName("refreshToken 쿠키로 로그아웃하면 해당 세션만 삭제")
+    @Test
+    void logout_withRefreshToken_shouldDeleteOnlyThatSession() {
+
+        // given
+        when(userLookupCache.existsByUserId(USER_ID)).thenReturn(true);
+        ParsedToken parsed = refreshToken(TokenValidationResult.VALID, USER_ID, "session-1");
+        when(jwtTokenProvider.parseToken("refresh-token")).thenReturn(parsed);
+
+        // when
+        authService.logout(USER_ID, "refresh-token");
+
+        // then
+        verify(redisService).deleteRefreshSession(USER_ID, "session-1");
+        verify(redisService, never()).deleteRefreshSessions(anyString());
+    }
+
+    @DisplayName("만료된 refreshToken 쿠키로 로그아웃해도 해당 세션만 삭제")
+    @Test
+    void logout_withExpiredRefreshToken_shouldDeleteOnlyThatSession() {
+
+        // given
+        when(userLookupCache.existsByUserId(USER_ID)).thenReturn(true);
+        ParsedToken parsed = refreshToken(TokenValidationResult.EXPIRED, USER_ID, "session-1");
+        when(jwtTokenProvider.parseToken("expired-token")).thenReturn(parsed);
+
+        // when
+        authService.logout(USER_ID, "expired-token");
+
+        // then
+        verify(redisService).deleteRefreshSession(USER_ID, "session-1");
+        verify(redisService, never()).deleteRefreshSessions(anyString());
+    }
+
+    @DisplayName("유효하지 않거나 다른 사용자의 refreshToken 쿠키로 로그아웃하면 아무 세션도 삭제하지 않음")
+    @Test
+    void logout_withForeignRefreshToken_shouldDeleteNothing() {
+
+        // given
+        when(userLookupCache.existsByUserId(USER_ID)).thenReturn(true);
+        ParsedToken invalid = mock(ParsedToken.class);
+        when(invalid.getResult()).thenReturn(TokenValidationResult.INVALID);
+        ParsedToken foreign = refreshToken(TokenValidationResult.VALID, "other", "session-2");
+        when(jwtTokenProvider.parseToken("invalid-token")).thenReturn(invalid);
+        when(jwtTokenProvider.parseToken("foreign-token")).thenReturn(foreign);
+
+        // when
+        authService.logout(USER_ID, "invalid-token");
+        authService.logout(USER_ID, "foreign-token");
+
+        // then
+        verify(redisService, never()).deleteRefreshSession(anyString(), anyString());
+        verify(redisService, never()).deleteRefreshSessions(anyString());
+        verify(redisService, never()).deleteLegacyRefreshToken(anyString());
+    }
+
+    @DisplayName("refreshToken 쿠키 없이 로그아웃하면 모든 세션 삭제")
+    @Test
+    void logout_withoutRefreshToken_shouldDeleteAllSessions() {
+
+        // given
+        when(userLookupCache.existsByUserId(USER_ID)).thenReturn(true);
+
+        // when
+        authService.logout(USER_ID, null);
+
+        // then
+        verify(redisService).deleteRefreshSessions(USER_ID);
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @DisplayName("재발급 시 같은 세션을 유지한 채 refreshToken 교체")
+    @Test
+    void reissue_shouldRotateWithinSameSession() {
+
+        // given
+        ParsedToken parsed = refreshToken(TokenValidationResult.VALID, USER_ID, "session-1");
+        when(jwtTokenProvider.parseToken("refresh-token")).thenReturn(parsed);
+        when(userLookupCache.existsByUserId(USER_ID)).thenReturn(true);
+        when(jwtTokenProvider.createAccessToken(USER_ID)).thenReturn("new-access-token");
+        when(jwtTokenProvider.createRefreshToken(USER_ID, "session-1")).thenReturn("new-refresh-token");
+        when(redisService.rotateRefreshToken(USER_ID, "session-1", "refresh-token", "session-1", "new-refresh-token"))
+                .thenReturn(true);
+
+        // when
+        TokenResponseDto response = authService.reissueTokens("refresh-token");
+
+        // then
+        assertEquals("new-access-token", response.getAccessToken());
+        assertEquals("new-refresh-token", response.getRefreshToken());
+    }
+
+    @DisplayName("이미 교체된 refreshToken을 다시 사용하면 저장된 값과 달라 재발급 실패")
+    @Test
+    void reissue_withReplayedRefreshToken_shouldFail() {
+
+        // given
+        ParsedToken parsed = refreshToken(TokenValidationResult.VALID, USER_ID, "session-1");
+        when(jwtTokenProvider.parseToken("old-refresh-token")).thenReturn(parsed);
+        when(userLookupCache.existsByUserId(USER_ID)).thenReturn(true);
+        when(jwtTokenProvider.createRefreshToken(USER_ID, "session-1")).thenReturn("new-refresh-token");
+        // 세션에 저장된 값이 이미 다른 토큰이므로 비교 후 교체(CAS) 실패
+        when(redisService.rotateRefreshToken(USER_ID, "session-1", "old-refresh-token", "session-1", "new-refresh-token"))
+                .thenReturn(false);
+
+        // when & then
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.reissueTokens("old-refresh-token"));
+    }
+
+    // 서명이 검증된 refreshToken 파싱 결과
+    private static ParsedToken refreshToken(TokenValidationResult result, String userId, String sessionId) {
+        ParsedToken parsed = mock(ParsedToken.class);
+        lenient().when(parsed.getResult()).thenReturn(result);
+        lenient().when(parsed.isValid()).thenReturn(result == TokenValidationResult.VALID);
+        lenient().when(parsed.getUserId()).thenReturn(userId);
+        lenient().when(parsed.getType()).thenReturn("refresh");
+        lenient().when(parsed.getSessionId()).thenReturn(sessionId);
+        lenient().when(parsed.getIssuedAt()).thenReturn(Instant.now());
+        return parsed;
+    }
+}
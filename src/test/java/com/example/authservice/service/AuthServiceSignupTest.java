@@ -0,0 +1,66 @@
+package com.example.authservice.service;
+
+import com.example.authservice.dto.SignupRequestDto;
+import com.example.authservice.exception.user.EmailAlreadyExistsException;
+import com.example.authservice.exception.user.UserIdAlreadyExistsException;
+import com.example.authservice.repository.AuthRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+// 회원가입 중복 사전 검사: 이미 사용 중인 email/userId는 비밀번호 해싱 전에 거부
+@ExtendWith(MockitoExtension.class)
+class AuthServiceSignupTest {
+
+    private static final SignupRequestDto REQUEST =
+            new SignupRequestDto("Hong123", "hong@example.com", "password!", "Hong", null);
+
+    @Mock
+    private AuthRepository authRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private SignupValidator signupValidator;
+
+    @Mock
+    private BreachedPasswordChecker breachedPasswordChecker;
+
+    @Mock
+    private UserAvailabilityService userAvailabilityService;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @DisplayName("이미 사용 중인 email이면 해싱/저장 없이 EmailAlreadyExistsException")
+    @Test
+    void createUser_withTakenEmail_shouldFailBeforeHashing() {
+
+        // given
+        when(userAvailabilityService.isEmailAvailable(REQUEST.getEmail())).thenReturn(false);
+
+        // when & then
+        assertThrows(EmailAlreadyExistsException.class, () -> authService.createUser(REQUEST));
+        verifyNoInteractions(passwordHashingService, authRepository);
+    }
+
+    @DisplayName("이미 사용 중인 userId이면 해싱/저장 없이 UserIdAlreadyExistsException")
+    @Test
+    void createUser_withTakenUserId_shouldFailBeforeHashing() {
+
+        // given
+        when(userAvailabilityService.isEmailAvailable(REQUEST.getEmail())).thenReturn(true);
+        when(userAvailabilityService.isUserIdAvailable(REQUEST.getUserId())).thenReturn(false);
+
+        // when & then
+        assertThrows(UserIdAlreadyExistsException.class, () -> authService.createUser(REQUEST));
+        verifyNoInteractions(passwordHashingService, authRepository);
+    }
+}
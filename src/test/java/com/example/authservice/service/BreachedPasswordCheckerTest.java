@@ -0,0 +1,122 @@
+package com.example.authservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 유출 비밀번호 검사: 정렬된 SHA-1 해시 파일에서 보간/이진 탐색
+class BreachedPasswordCheckerTest {
+
+    @TempDir
+    Path tempDir;
+
+    // 해시 오름차순(부호 없는 바이트 순서)으로 정렬한 비밀번호
+    private List<String> sortedPasswords;
+
+    @BeforeEach
+    void setUp() {
+        sortedPasswords = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            sortedPasswords.add("password" + i + "!");
+        }
+        sortedPasswords.sort(Comparator.comparing(BreachedPasswordCheckerTest::sha1, Arrays::compareUnsigned));
+    }
+
+    @DisplayName("파일의 첫 번째/마지막 레코드와 중간 레코드를 찾음")
+    @Test
+    void isBreached_shouldFindFirstMiddleAndLastRecords() throws IOException {
+
+        // given
+        BreachedPasswordChecker checker = checker(sortedPasswords);
+
+        // when & then
+        assertTrue(checker.isBreached(sortedPasswords.get(0)));
+        assertTrue(checker.isBreached(sortedPasswords.get(1)));
+        assertTrue(checker.isBreached(sortedPasswords.get(500)));
+        assertTrue(checker.isBreached(sortedPasswords.get(998)));
+        assertTrue(checker.isBreached(sortedPasswords.get(999)));
+    }
+
+    @DisplayName("이웃한 두 레코드 사이의 해시, 파일 범위 밖의 해시는 찾지 못함")
+    @Test
+    void isBreached_withMissingHash_shouldReturnFalse() throws IOException {
+
+        // given
+        // 첫 번째, 가운데, 마지막 레코드를 뺀 파일
+        List<String> stored = new ArrayList<>(sortedPasswords.subList(1, 999));
+        stored.remove(sortedPasswords.get(500));
+        BreachedPasswordChecker checker = checker(stored);
+
+        // when & then
+        assertFalse(checker.isBreached(sortedPasswords.get(500)));
+        assertTrue(checker.isBreached(sortedPasswords.get(499)));
+        assertTrue(checker.isBreached(sortedPasswords.get(501)));
+        assertFalse(checker.isBreached(sortedPasswords.get(0)));
+        assertFalse(checker.isBreached(sortedPasswords.get(999)));
+        assertTrue(checker.isBreached(sortedPasswords.get(1)));
+        assertTrue(checker.isBreached(sortedPasswords.get(998)));
+    }
+
+    @DisplayName("레코드가 하나뿐인 파일")
+    @Test
+    void isBreached_withSingleRecord() throws IOException {
+
+        // given
+        BreachedPasswordChecker checker = checker(List.of(sortedPasswords.get(500)));
+
+        // when & then
+        assertTrue(checker.isBreached(sortedPasswords.get(500)));
+        assertFalse(checker.isBreached(sortedPasswords.get(0)));
+        assertFalse(checker.isBreached(sortedPasswords.get(999)));
+    }
+
+    @DisplayName("파일 크기가 레코드 길이의 배수가 아니면 검사를 건너뜀")
+    @Test
+    void isBreached_withMalformedFile_shouldSkipCheck() throws IOException {
+
+        // given
+        Path file = tempDir.resolve("malformed.bin");
+        Files.write(file, new byte[21]);
+        BreachedPasswordChecker checker = new BreachedPasswordChecker(
+                true, file.toString(), BreachedPasswordChecker.HashAlgorithm.SHA1, new SimpleMeterRegistry());
+
+        // when & then
+        assertFalse(checker.isBreached(sortedPasswords.get(0)));
+    }
+
+    // passwords(해시 오름차순)의 SHA-1 해시를 이어 붙인 파일로 검사기 생성
+    private BreachedPasswordChecker checker(List<String> passwords) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (String password : passwords) {
+            content.writeBytes(sha1(password));
+        }
+        Path file = tempDir.resolve("breached.bin");
+        Files.write(file, content.toByteArray());
+        return new BreachedPasswordChecker(
+                true, file.toString(), BreachedPasswordChecker.HashAlgorithm.SHA1, new SimpleMeterRegistry());
+    }
+
+    private static byte[] sha1(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
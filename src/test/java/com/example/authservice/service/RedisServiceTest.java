@@ -0,0 +1,107 @@
+package com.example.authservice.service;
+
+import com.example.authservice.jwt.VerifiedTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// refreshToken 세션 저장소 검증 (Redis 스크립트 결과 처리, 키 이름)
+@ExtendWith(MockitoExtension.class)
+class RedisServiceTest {
+
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private RedisScript<Long> saveRefreshSessionScript;
+
+    private RedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new RedisService(binaryRedisTemplate, verifiedTokenCache, saveRefreshSessionScript);
+    }
+
+    @DisplayName("저장된 refreshToken과 다르면(스크립트 -1) 교체 실패, 검증 캐시는 그대로")
+    @Test
+    void rotateRefreshToken_withMismatchedToken_shouldFail() {
+
+        // given
+        when(binaryRedisTemplate.execute(eq(saveRefreshSessionScript), anyList(), any(Object[].class))).thenReturn(-1L);
+
+        // when
+        boolean rotated = redisService.rotateRefreshToken("Hong123", "session-1", "replayed-token", "session-1", "new-token");
+
+        // then
+        assertFalse(rotated);
+        verifyNoInteractions(verifiedTokenCache);
+    }
+
+    @DisplayName("저장된 refreshToken과 같으면 교체하고 이전 토큰의 검증 캐시 제거")
+    @Test
+    void rotateRefreshToken_withCurrentToken_shouldSucceed() {
+
+        // given
+        when(binaryRedisTemplate.execute(eq(saveRefreshSessionScript), anyList(), any(Object[].class))).thenReturn(0L);
+
+        // when
+        boolean rotated = redisService.rotateRefreshToken("Hong123", "session-1", "current-token", "session-1", "new-token");
+
+        // then
+        assertTrue(rotated);
+        verify(verifiedTokenCache).invalidateRefreshTokens("Hong123");
+    }
+
+    @DisplayName("세션 키와 이전 refreshToken 키는 userId 해시 태그를 공유 (Redis Cluster 같은 슬롯)")
+    @Test
+    void keys_shouldShareUserIdHashTag() {
+        assertEquals("RTS:{Hong123}", RedisService.sessionKey("Hong123"));
+        assertEquals("RT:{Hong123}", RedisService.legacyKey("Hong123"));
+    }
+
+    @DisplayName("한 세션만 삭제하면 다른 세션(기기)의 키는 지우지 않음")
+    @Test
+    void deleteRefreshSession_shouldDeleteOnlyThatField() {
+
+        // given
+        @SuppressWarnings("unchecked")
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(binaryRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.delete("RTS:{Hong123}", "session-1")).thenReturn(1L);
+
+        // when
+        boolean deleted = redisService.deleteRefreshSession("Hong123", "session-1");
+
+        // then
+        assertTrue(deleted);
+        verify(binaryRedisTemplate, never()).delete(anyList());
+        verify(binaryRedisTemplate, never()).delete(anyString());
+    }
+
+    @DisplayName("전체 로그아웃은 세션 키와 이전 refreshToken 키를 모두 삭제")
+    @Test
+    void deleteRefreshSessions_shouldDeleteAllKeys() {
+
+        // when
+        redisService.deleteRefreshSessions("Hong123");
+
+        // then
+        verify(binaryRedisTemplate).delete(List.of("RTS:{Hong123}", "RT:{Hong123}", "RT:Hong123"));
+        verify(verifiedTokenCache).invalidateRefreshTokens("Hong123");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.authservice.service;
+
+import com.example.authservice.exception.user.InvalidUserIdFormatException;
+import com.example.authservice.exception.user.ReservedUserIdException;
+import com.example.authservice.exception.user.WeakPasswordException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 회원가입 입력값 검증 (Aho-Corasick 예약어/금지어 검사, 비밀번호 규칙)
+class SignupValidatorTest {
+
+    private final SignupValidator signupValidator = new SignupValidator(
+            List.of("admin", "Root", "system"),
+            List.of("he", "she", "hers", "abcd", "bc"));
+
+    @DisplayName("겹치는 금지어: 실패 링크를 따라 다른 단어의 접미사로 끝나는 금지어도 찾음")
+    @Test
+    void containsAny_withOverlappingWords_shouldFollowFailLinks() {
+
+        // given
+        WordAutomaton automaton = WordAutomaton.build(List.of("he", "she", "hers", "abcd", "bc"));
+
+        // when & then
+        // "ushers": s-h-e 경로에서 "she"와 접미사 "he"가 함께 끝남
+        assertTrue(automaton.containsAny("ushers"));
+        // "abce": abcd를 따라가다 c에서 멈춰도 접미사 "bc"는 이미 금지어
+        assertTrue(automaton.containsAny("abce"));
+        // "xhxsxe": 글자는 모두 있지만 연속된 단어는 없음
+        assertFalse(automaton.containsAny("xhxsxe"));
+        assertEquals(5, automaton.wordCount());
+    }
+
+    @DisplayName("예약어는 전체가 일치할 때만, 금지어는 포함만 해도 거부")
+    @Test
+    void isReservedUserId_shouldMatchReservedExactlyAndBlockedAnywhere() {
+        assertTrue(signupValidator.isReservedUserId("admin"));
+        assertFalse(signupValidator.isReservedUserId("admin1"));
+        assertFalse(signupValidator.isReservedUserId("adm"));
+        assertTrue(signupValidator.isReservedUserId("xxhersxx"));
+        assertFalse(signupValidator.isReservedUserId("jane"));
+    }
+
+    @DisplayName("예약어/금지어 검사는 대소문자를 구분하지 않음")
+    @Test
+    void isReservedUserId_shouldIgnoreCase() {
+        assertTrue(signupValidator.isReservedUserId("ADMIN"));
+        assertTrue(signupValidator.isReservedUserId("root"));
+        assertTrue(signupValidator.isReservedUserId("ROOT"));
+        assertTrue(signupValidator.isReservedUserId("uSHErs"));
+    }
+
+    @DisplayName("영문/숫자 외의 문자가 들어간 단어는 목록에서 제외")
+    @Test
+    void build_shouldSkipNonAlphanumericWords() {
+
+        // when
+        WordAutomaton automaton = WordAutomaton.build(List.of("bad-word", "", "ok"));
+
+        // then
+        assertEquals(1, automaton.wordCount());
+        assertFalse(automaton.containsAny("badword"));
+        assertTrue(automaton.matches("OK"));
+    }
+
+    @DisplayName("userId 형식이 맞지 않으면 형식 예외, 예약어이면 예약어 예외")
+    @Test
+    void validateUserId_shouldCheckFormatBeforeReservedWords() {
+        assertThrows(InvalidUserIdFormatException.class, () -> signupValidator.validateUserId("admin!"));
+        assertThrows(InvalidUserIdFormatException.class, () -> signupValidator.validateUserId("a".repeat(17)));
+        assertThrows(InvalidUserIdFormatException.class, () -> signupValidator.validateUserId(""));
+        assertThrows(ReservedUserIdException.class, () -> signupValidator.validateUserId("System"));
+        assertDoesNotThrow(() -> signupValidator.validateUserId("Hong123"));
+    }
+
+    @DisplayName("비밀번호에 줄바꿈 문자가 있으면 특수문자가 있어도 거부")
+    @Test
+    void isStrongPassword_withLineTerminator_shouldFail() {
+        assertFalse(signupValidator.isStrongPassword("password!\n"));
+        assertFalse(signupValidator.isStrongPassword("pass\rword!"));
+        assertFalse(signupValidator.isStrongPassword("password!\u0085"));
+        assertFalse(signupValidator.isStrongPassword("password!\u2028"));
+        assertFalse(signupValidator.isStrongPassword("password!\u2029"));
+        assertThrows(WeakPasswordException.class, () -> signupValidator.validatePassword("password!\n"));
+    }
+
+    @DisplayName("비밀번호는 8자 이상 + 특수문자 포함")
+    @Test
+    void isStrongPassword_shouldRequireLengthAndSpecialCharacter() {
+        assertTrue(signupValidator.isStrongPassword("password!"));
+        assertFalse(signupValidator.isStrongPassword("password"));
+        assertFalse(signupValidator.isStrongPassword("pass!"));
+        assertFalse(signupValidator.isStrongPassword(null));
+    }
+}
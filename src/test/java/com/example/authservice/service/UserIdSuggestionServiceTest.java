@@ -0,0 +1,95 @@
+package com.example.authservice.service;
+
+import com.example.authservice.event.UserChangedEvent;
+import com.example.authservice.repository.AuthRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+// userId 추천: 메모리 인덱스에서 빈 번호 찾기
+@ExtendWith(MockitoExtension.class)
+class UserIdSuggestionServiceTest {
+
+    @Mock
+    private AuthRepository authRepository;
+
+    @Mock
+    private DataSource dataSource;
+
+    private UserIdSuggestionService userIdSuggestionService;
+
+    @BeforeEach
+    void setUp() {
+        SignupValidator signupValidator = new SignupValidator(List.of("admin"), List.of("bad"));
+        userIdSuggestionService = new UserIdSuggestionService(authRepository, signupValidator, dataSource, true, 20);
+        // 기동 시 로딩 대신 이벤트로 채운 인덱스 사용
+        ReflectionTestUtils.setField(userIdSuggestionService, "ready", true);
+    }
+
+    @DisplayName("사용 중인 번호 사이의 빈 번호를 작은 순서로 추천, 번호가 아닌 값과 더 긴 값은 무시")
+    @Test
+    void suggest_withGaps_shouldReturnSmallestFreeNumbers() {
+
+        // given
+        taken("jane", "Jane1", "jane2", "jane4", "jane3x", "jane1abc", "jane10", "jane11");
+
+        // when
+        List<String> suggestions = userIdSuggestionService.suggest("jane", 4);
+
+        // then
+        assertEquals(List.of("jane3", "jane5", "jane6", "jane7"), suggestions);
+        verifyNoInteractions(authRepository);
+    }
+
+    @DisplayName("번호가 촘촘히 사용 중이어도 긴 값은 건너뛰어 읽는 양 제한 안에서 다음 빈 번호를 찾음")
+    @Test
+    void suggest_withDensePrefix_shouldSkipLongerSuffixes() {
+
+        // given
+        // jane1 ~ jane5000 중 jane57, jane1100만 비어 있음
+        // 1자리 범위(jane1 ~ jane9)에 모든 값이 들어가므로, 긴 값을 건너뛰지 않으면 읽는 양 제한에 걸린다
+        List<String> userIds = new ArrayList<>();
+        userIds.add("jane");
+        for (int number = 1; number <= 5000; number++) {
+            if (number != 57 && number != 1100) {
+                userIds.add("jane" + number);
+            }
+        }
+        taken(userIds.toArray(String[]::new));
+
+        // when
+        List<String> suggestions = userIdSuggestionService.suggest("jane", 3);
+
+        // then
+        assertEquals(List.of("jane57", "jane1100", "jane5001"), suggestions);
+    }
+
+    @DisplayName("16자를 넘는 후보는 base 뒤쪽을 잘라 번호 자리를 확보")
+    @Test
+    void suggest_withMaxLengthBase_shouldTruncatePrefix() {
+
+        // given
+        taken("abcdefghijklmnop", "abcdefghijklmno1");
+
+        // when
+        List<String> suggestions = userIdSuggestionService.suggest("abcdefghijklmnop", 2);
+
+        // then
+        assertEquals(List.of("abcdefghijklmno2", "abcdefghijklmno3"), suggestions);
+    }
+
+    private void taken(String... userIds) {
+        userIdSuggestionService.onUserChanged(UserChangedEvent.created(List.of(userIds), null));
+    }
+}
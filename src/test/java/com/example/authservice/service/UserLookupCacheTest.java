@@ -0,0 +1,63 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.ReplicaRouting;
+import com.example.authservice.domain.UserType;
+import com.example.authservice.event.UserChangedEvent;
+import com.example.authservice.repository.AuthRepository;
+import com.example.authservice.repository.projection.UserIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// 사용자 식별 정보 캐시: 회원 삭제 시 userId/email 두 키 모두 제거
+@ExtendWith(MockitoExtension.class)
+class UserLookupCacheTest {
+
+    private static final UserIdentity HONG = new UserIdentity("Hong123", "hong@example.com", UserType.GENERAL);
+    private static final UserIdentity KIM = new UserIdentity("Kim456", "kim@example.com", UserType.GENERAL);
+
+    @Mock
+    private AuthRepository authRepository;
+
+    private UserLookupCache userLookupCache;
+
+    @BeforeEach
+    void setUp() {
+        userLookupCache = new UserLookupCache(authRepository, new ReplicaRouting(false), new SimpleMeterRegistry(), 1000, Duration.ofMinutes(10));
+    }
+
+    @DisplayName("삭제된 사용자는 email 키로도 캐시에서 제거되고, 다른 사용자는 캐시에 남음")
+    @Test
+    void onUserChanged_withDeleted_shouldEvictEmailKeys() {
+
+        // given
+        when(authRepository.findIdentityByEmail(HONG.email())).thenReturn(Optional.of(HONG));
+        when(authRepository.findIdentityByEmail(KIM.email())).thenReturn(Optional.of(KIM));
+        userLookupCache.findByEmail(HONG.email());
+        userLookupCache.findByEmail(KIM.email());
+
+        // when
+        userLookupCache.onUserChanged(UserChangedEvent.deleted(List.of(HONG.userId())));
+
+        // then
+        // 삭제된 사용자는 다시 DB에서 조회, 남은 사용자는 캐시에서 응답
+        when(authRepository.findIdentityByEmail(HONG.email())).thenReturn(Optional.empty());
+        assertTrue(userLookupCache.findByEmail(HONG.email()).isEmpty());
+        assertEquals(Optional.of(KIM), userLookupCache.findByEmail(KIM.email()));
+        verify(authRepository, times(2)).findIdentityByEmail(HONG.email());
+        verify(authRepository, times(1)).findIdentityByEmail(KIM.email());
+        assertTrue(userLookupCache.existsByUserId(KIM.userId()));
+        verify(authRepository, never()).findIdentityByUserId(KIM.userId());
+    }
+}